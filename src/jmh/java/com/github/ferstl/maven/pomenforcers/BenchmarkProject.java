@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.github.ferstl.maven.pomenforcers.model.PomReader;
+import com.github.ferstl.maven.pomenforcers.util.LocalExpressionEvaluator;
+
+/**
+ * A project for the enforcer benchmarks that is read from a POM file without a Maven session, similar to the projects
+ * of the {@link PomLinter}.
+ */
+final class BenchmarkProject {
+
+  final MavenProject project;
+  final LocalExpressionEvaluator evaluator;
+  final ParsedPom parsedPom;
+
+  private BenchmarkProject(MavenProject project, LocalExpressionEvaluator evaluator, ParsedPom parsedPom) {
+    this.project = project;
+    this.evaluator = evaluator;
+    this.parsedPom = parsedPom;
+  }
+
+  static BenchmarkProject load(Path pomFile) throws IOException, XmlPullParserException {
+    Model model;
+    try (Reader reader = Files.newBufferedReader(pomFile, StandardCharsets.UTF_8)) {
+      model = new MavenXpp3Reader().read(reader, false);
+    }
+
+    File basedir = pomFile.toAbsolutePath().getParent().toFile();
+    LocalExpressionEvaluator evaluator = new LocalExpressionEvaluator(Collections.singletonList(model), basedir);
+    MavenProject project = new MavenProject(model);
+    project.setFile(pomFile.toFile());
+
+    return new BenchmarkProject(project, evaluator, PomReader.read(Files.readAllBytes(pomFile), "hash"));
+  }
+
+  static void delete(Path directory) throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.benchmark.SyntheticPom;
+
+/**
+ * Measures the {@link CompoundPedanticEnforcer} with all rules, once for a single parsed POM and once end to end with
+ * the {@link PomLinter} for a synthetic multi-module project, including reading the POM files and resolving their
+ * parents. The linter shares the {@link PomCache} with the Maven plugin, so unchanged POM files are parsed only once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompoundEnforcerBenchmark {
+
+  private static final String ALL_ENFORCERS = "POM_SECTION_ORDER,MODULE_ORDER,DEPENDENCY_MANAGEMENT_ORDER,"
+      + "DEPENDENCY_MANAGEMENT_LOCATION,DEPENDENCY_ORDER,DEPENDENCY_CONFIGURATION,DEPENDENCY_ELEMENT,DEPENDENCY_SCOPE,"
+      + "PLUGIN_MANAGEMENT_ORDER,PLUGIN_CONFIGURATION,PLUGIN_ELEMENT,PLUGIN_MANAGEMENT_LOCATION";
+
+  @Param({"10", "100"})
+  private int modules;
+
+  @Param({"false", "true"})
+  private boolean parallel;
+
+  private Path directory;
+  private List<File> pomFiles;
+  private BenchmarkProject benchmarkProject;
+
+  @Setup
+  public void setup() throws Exception {
+    this.directory = Files.createTempDirectory("compound-benchmark");
+    List<Path> pomFiles = SyntheticPom.create()
+        .modules(this.modules)
+        .managedDependencies(10 * this.modules)
+        .dependencies(5 * this.modules)
+        .plugins(this.modules)
+        .writeTo(this.directory);
+    this.pomFiles = pomFiles.stream().map(Path::toFile).collect(Collectors.toList());
+    this.benchmarkProject = BenchmarkProject.load(pomFiles.get(0));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    BenchmarkProject.delete(this.directory);
+  }
+
+  @Benchmark
+  public ErrorReport singlePom() {
+    CompoundPedanticEnforcer enforcer = new CompoundPedanticEnforcer(this.benchmarkProject.project, this.benchmarkProject.evaluator);
+    enforcer.setEnforcers(ALL_ENFORCERS);
+    enforcer.setParallel(this.parallel);
+    enforcer.initialize(this.benchmarkProject.parsedPom);
+
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+    enforcer.doEnforce(report);
+    return report;
+  }
+
+  @Benchmark
+  public Map<File, ErrorReport> linter() {
+    return new PomLinter()
+        .configure("enforcers", ALL_ENFORCERS)
+        .configure("parallel", String.valueOf(this.parallel))
+        .threads(this.parallel ? 0 : 1)
+        .lint(this.pomFiles);
+  }
+}
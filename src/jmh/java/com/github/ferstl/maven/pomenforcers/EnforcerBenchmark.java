@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.benchmark.SyntheticPom;
+
+/**
+ * Measures {@link AbstractPedanticEnforcer#doEnforce(ErrorReport)} of each rule on an already parsed synthetic POM.
+ * This benchmark is in the package of the rules because the rules can only be initialized with a parsed POM from
+ * there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnforcerBenchmark {
+
+  @Param({
+      "POM_SECTION_ORDER",
+      "MODULE_ORDER",
+      "DEPENDENCY_MANAGEMENT_ORDER",
+      "DEPENDENCY_MANAGEMENT_LOCATION",
+      "DEPENDENCY_ORDER",
+      "DEPENDENCY_CONFIGURATION",
+      "DEPENDENCY_ELEMENT",
+      "DEPENDENCY_SCOPE",
+      "PLUGIN_MANAGEMENT_ORDER",
+      "PLUGIN_CONFIGURATION",
+      "PLUGIN_ELEMENT",
+      "PLUGIN_MANAGEMENT_LOCATION"})
+  private PedanticEnforcerRule rule;
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private Path directory;
+  private BenchmarkProject benchmarkProject;
+
+  @Setup
+  public void setup() throws Exception {
+    this.directory = Files.createTempDirectory("enforcer-benchmark");
+    Path pomFile = SyntheticPom.create()
+        .modules(this.size / 10)
+        .managedDependencies(this.size)
+        .dependencies(this.size / 2)
+        .plugins(this.size / 10)
+        .writeTo(this.directory)
+        .get(0);
+    this.benchmarkProject = BenchmarkProject.load(pomFile);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    BenchmarkProject.delete(this.directory);
+  }
+
+  @Benchmark
+  public ErrorReport doEnforce() {
+    AbstractPedanticEnforcer enforcer = this.rule.createEnforcerRule(this.benchmarkProject.project, this.benchmarkProject.evaluator);
+    enforcer.initialize(this.benchmarkProject.parsedPom);
+
+    ErrorReport report = new ErrorReport(this.rule);
+    enforcer.doEnforce(report);
+    return report;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.functions.DependencyMatcher;
+import com.github.ferstl.maven.pomenforcers.util.LocalExpressionEvaluator;
+import com.google.common.collect.BiMap;
+
+/**
+ * Measures matching declared dependencies, whose coordinates contain properties, against the resolved dependencies
+ * of a project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int dependencies;
+
+  private LocalExpressionEvaluator evaluator;
+  private List<Dependency> resolvedDependencies;
+  private List<DependencyModel> declaredDependencies;
+
+  @Setup
+  public void setup() {
+    Model model = new Model();
+    model.addProperty("example.group", "com.example.group");
+    this.evaluator = new LocalExpressionEvaluator(Collections.singletonList(model), new File("."));
+
+    this.resolvedDependencies = new ArrayList<>(this.dependencies);
+    this.declaredDependencies = new ArrayList<>(this.dependencies);
+    for (String coordinates : SyntheticPom.create().coordinates(this.dependencies)) {
+      String[] parts = coordinates.split(":");
+      Dependency dependency = new Dependency();
+      dependency.setGroupId(parts[0]);
+      dependency.setArtifactId(parts[1]);
+      dependency.setVersion("1.0.0");
+      dependency.setScope(parts[2]);
+      this.resolvedDependencies.add(dependency);
+
+      String groupId = parts[0].replace("com.example.group", "${example.group}");
+      this.declaredDependencies.add(new DependencyModel(groupId, parts[1], "${dependency.version}", parts[2], null, null));
+    }
+    Collections.reverse(this.declaredDependencies);
+  }
+
+  @Benchmark
+  public BiMap<DependencyModel, DependencyModel> match() {
+    return new DependencyMatcher(this.evaluator).match(this.resolvedDependencies, this.declaredDependencies);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolation;
+
+/**
+ * Measures checking and sorting dependencies with the default order of the dependency order rules and group ID
+ * priority lists of different lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderingBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int dependencies;
+
+  @Param({"0", "5", "20"})
+  private int priorities;
+
+  private CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering;
+  private List<DependencyModel> dependencyModels;
+
+  @Setup
+  public void setup() {
+    this.ordering = CompoundPriorityOrdering.orderBy(DependencyElement.SCOPE, DependencyElement.GROUP_ID, DependencyElement.ARTIFACT_ID);
+    this.ordering.setPriorities(DependencyElement.SCOPE, Arrays.asList("import", "compile", "provided", "runtime", "system", "test"));
+    if (this.priorities > 0) {
+      this.ordering.setPriorities(DependencyElement.GROUP_ID, Arrays.asList(SyntheticPom.groupIdPriorities(this.priorities).split(",")));
+    }
+
+    this.dependencyModels = new ArrayList<>(this.dependencies);
+    for (String coordinates : SyntheticPom.create().coordinates(this.dependencies)) {
+      String[] parts = coordinates.split(":");
+      this.dependencyModels.add(new DependencyModel(parts[0], parts[1], "1.0.0", parts[2], null, null));
+    }
+  }
+
+  @Benchmark
+  public List<OrderViolation<DependencyModel>> violations() {
+    return this.ordering.sortKeys(this.dependencyModels).getViolations();
+  }
+
+  @Benchmark
+  public List<DependencyModel> sortedCopy() {
+    return this.ordering.sortKeys(this.dependencyModels).sortedCopy();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.github.ferstl.maven.pomenforcers.model.PomReader;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+
+/**
+ * Compares parsing a POM into a DOM document with reading the project model and the element structure in a single
+ * StAX pass, for synthetic POMs of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int dependencies;
+
+  private byte[] pom;
+
+  @Setup
+  public void setup() {
+    this.pom = SyntheticPom.create()
+        .modules(this.dependencies / 10)
+        .managedDependencies(this.dependencies)
+        .dependencies(this.dependencies)
+        .plugins(this.dependencies / 10)
+        .toXml()
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Document parseXml() {
+    return XmlUtils.parseXml(this.pom);
+  }
+
+  @Benchmark
+  public ParsedPom readPom() {
+    ParsedPom parsedPom = PomReader.read(this.pom, "hash");
+    parsedPom.getStructure();
+    return parsedPom;
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generator for synthetic POM files of a configurable size. The generated POM declares modules, managed dependencies,
+ * dependencies, managed plugins and plugins. All lists are shuffled with a fixed seed, so each rule has something to
+ * report and the output is the same on every run.
+ */
+public final class SyntheticPom {
+
+  static final String NAMESPACE = "http://maven.apache.org/POM/4.0.0";
+  private static final int GROUP_COUNT = 20;
+  private static final String[] SCOPES = {"compile", "provided", "runtime", "test"};
+
+  private int modules;
+  private int managedDependencies;
+  private int dependencies;
+  private int plugins;
+  private long seed = 42;
+
+  public static SyntheticPom create() {
+    return new SyntheticPom();
+  }
+
+  public SyntheticPom modules(int modules) {
+    this.modules = modules;
+    return this;
+  }
+
+  /**
+   * Number of managed dependencies. The dependencies section declares the first {@link #dependencies(int)} of them
+   * without a version.
+   */
+  public SyntheticPom managedDependencies(int managedDependencies) {
+    this.managedDependencies = managedDependencies;
+    return this;
+  }
+
+  public SyntheticPom dependencies(int dependencies) {
+    this.dependencies = dependencies;
+    return this;
+  }
+
+  /**
+   * Number of managed plugins. Every second managed plugin is also declared in the plugins section.
+   */
+  public SyntheticPom plugins(int plugins) {
+    this.plugins = plugins;
+    return this;
+  }
+
+  public SyntheticPom seed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Creates a comma-separated list of group ID priorities that matches the generated dependencies.
+   *
+   * @param length Number of priorities.
+   * @return The priorities.
+   */
+  public static String groupIdPriorities(int length) {
+    return IntStream.range(0, length)
+        .map(i -> GROUP_COUNT - 1 - i % GROUP_COUNT)
+        .mapToObj(SyntheticPom::groupId)
+        .distinct()
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * Creates a list of dependency coordinates (<code>groupId:artifactId:scope</code>) in random order.
+   *
+   * @param count Number of coordinates.
+   * @return The coordinates.
+   */
+  public List<String> coordinates(int count) {
+    List<String> coordinates = IntStream.range(0, count)
+        .mapToObj(i -> groupId(i) + ":" + artifactId(i) + ":" + scope(i))
+        .collect(Collectors.toList());
+    Collections.shuffle(coordinates, new Random(this.seed));
+    return coordinates;
+  }
+
+  public String toXml() {
+    Random random = new Random(this.seed);
+    StringBuilder sb = new StringBuilder(1024 + 256 * (this.managedDependencies + this.dependencies + this.plugins));
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+        .append("<project xmlns=\"").append(NAMESPACE).append("\">\n")
+        .append("  <modelVersion>4.0.0</modelVersion>\n")
+        .append("  <groupId>com.example</groupId>\n")
+        .append("  <artifactId>synthetic</artifactId>\n")
+        .append("  <version>1.0.0-SNAPSHOT</version>\n")
+        .append("  <packaging>").append(this.modules > 0 ? "pom" : "jar").append("</packaging>\n");
+
+    if (this.modules > 0) {
+      sb.append("  <modules>\n");
+      for (int i : shuffledIndexes(this.modules, random)) {
+        sb.append("    <module>").append(moduleName(i)).append("</module>\n");
+      }
+      sb.append("  </modules>\n");
+    }
+
+    sb.append("  <properties>\n")
+        .append("    <dependency.version>1.0.0</dependency.version>\n")
+        .append("  </properties>\n");
+
+    if (this.managedDependencies > 0) {
+      sb.append("  <dependencyManagement>\n")
+          .append("    <dependencies>\n");
+      for (int i : shuffledIndexes(this.managedDependencies, random)) {
+        appendDependency(sb, i, true);
+      }
+      sb.append("    </dependencies>\n")
+          .append("  </dependencyManagement>\n");
+    }
+
+    if (this.dependencies > 0) {
+      sb.append("  <dependencies>\n");
+      for (int i : shuffledIndexes(this.dependencies, random)) {
+        appendDependency(sb, i, false);
+      }
+      sb.append("  </dependencies>\n");
+    }
+
+    sb.append("  <build>\n")
+        .append("    <pluginManagement>\n")
+        .append("      <plugins>\n");
+    for (int i : shuffledIndexes(this.plugins, random)) {
+      appendPlugin(sb, i, true);
+    }
+    sb.append("      </plugins>\n")
+        .append("    </pluginManagement>\n")
+        .append("    <plugins>\n");
+    for (int i : shuffledIndexes((this.plugins + 1) / 2, random)) {
+      appendPlugin(sb, 2 * i, false);
+    }
+    sb.append("    </plugins>\n")
+        .append("  </build>\n")
+        .append("</project>\n");
+
+    return sb.toString();
+  }
+
+  /**
+   * Writes the POM file and a minimal POM file for each module into the given directory.
+   *
+   * @param directory The project directory.
+   * @return The POM files, starting with the root POM.
+   * @throws IOException If writing fails.
+   */
+  public List<Path> writeTo(Path directory) throws IOException {
+    List<Path> pomFiles = new ArrayList<>(this.modules + 1);
+    pomFiles.add(write(directory.resolve("pom.xml"), toXml()));
+
+    for (int i = 0; i < this.modules; i++) {
+      String module = ""
+          + "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<project xmlns=\"" + NAMESPACE + "\">\n"
+          + "  <modelVersion>4.0.0</modelVersion>\n"
+          + "  <parent>\n"
+          + "    <groupId>com.example</groupId>\n"
+          + "    <artifactId>synthetic</artifactId>\n"
+          + "    <version>1.0.0-SNAPSHOT</version>\n"
+          + "  </parent>\n"
+          + "  <artifactId>" + moduleName(i) + "</artifactId>\n"
+          + "  <dependencies>\n"
+          + "    <dependency>\n"
+          + "      <groupId>" + groupId(i) + "</groupId>\n"
+          + "      <artifactId>" + artifactId(i) + "</artifactId>\n"
+          + "      <version>${dependency.version}</version>\n"
+          + "    </dependency>\n"
+          + "  </dependencies>\n"
+          + "</project>\n";
+      pomFiles.add(write(directory.resolve(moduleName(i)).resolve("pom.xml"), module));
+    }
+
+    return pomFiles;
+  }
+
+  private static Path write(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void appendDependency(StringBuilder sb, int i, boolean managed) {
+    String indent = managed ? "      " : "    ";
+    sb.append(indent).append("<dependency>\n")
+        .append(indent).append("  <groupId>").append(groupId(i)).append("</groupId>\n")
+        .append(indent).append("  <artifactId>").append(artifactId(i)).append("</artifactId>\n");
+    if (managed) {
+      sb.append(indent).append("  <version>${dependency.version}</version>\n");
+    }
+    sb.append(indent).append("  <scope>").append(scope(i)).append("</scope>\n")
+        .append(indent).append("</dependency>\n");
+  }
+
+  private static void appendPlugin(StringBuilder sb, int i, boolean managed) {
+    String indent = managed ? "        " : "      ";
+    sb.append(indent).append("<plugin>\n")
+        .append(indent).append("  <groupId>org.example.plugins</groupId>\n")
+        .append(indent).append("  <artifactId>plugin-").append(i).append("</artifactId>\n");
+    if (managed) {
+      sb.append(indent).append("  <version>1.0.0</version>\n")
+          .append(indent).append("  <configuration>\n")
+          .append(indent).append("    <skip>false</skip>\n")
+          .append(indent).append("  </configuration>\n");
+    }
+    sb.append(indent).append("</plugin>\n");
+  }
+
+  private static List<Integer> shuffledIndexes(int count, Random random) {
+    List<Integer> indexes = IntStream.range(0, count).boxed().collect(Collectors.toList());
+    Collections.shuffle(indexes, random);
+    return indexes;
+  }
+
+  private static String moduleName(int i) {
+    return "module-" + i;
+  }
+
+  private static String groupId(int i) {
+    return "com.example.group" + i % GROUP_COUNT;
+  }
+
+  private static String artifactId(int i) {
+    return "artifact-" + i;
+  }
+
+  private static String scope(int i) {
+    return SCOPES[i % SCOPES.length];
+  }
+
+  private SyntheticPom() {
+  }
+}
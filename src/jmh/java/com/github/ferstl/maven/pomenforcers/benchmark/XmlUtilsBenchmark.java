@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.util.CompiledXPath;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+
+/**
+ * Compares the per-module cost of parsing a POM and evaluating the XPath expressions of the element order rules with
+ * new factories and freshly compiled expressions on each call (the former behavior of {@link XmlUtils}) against
+ * cached factories and precompiled expressions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlUtilsBenchmark {
+
+  private static final String[] EXPRESSIONS = {
+      "/project/dependencyManagement/dependencies/dependency",
+      "/project/dependencies/dependency",
+      "/project/build/pluginManagement/plugins/plugin",
+      "/project/build/plugins/plugin"
+  };
+
+  private static final CompiledXPath[] COMPILED_EXPRESSIONS = {
+      XmlUtils.compileXPath(EXPRESSIONS[0]),
+      XmlUtils.compileXPath(EXPRESSIONS[1]),
+      XmlUtils.compileXPath(EXPRESSIONS[2]),
+      XmlUtils.compileXPath(EXPRESSIONS[3])
+  };
+
+  private byte[] pom;
+
+  @Setup
+  public void setup() throws Exception {
+    this.pom = Files.readAllBytes(Paths.get("src/test/projects/example-project/pom.xml"));
+  }
+
+  @Benchmark
+  public void uncachedFactories(Blackhole blackhole) throws Exception {
+    Document document = DocumentBuilderFactory.newInstance()
+        .newDocumentBuilder()
+        .parse(new ByteArrayInputStream(this.pom));
+
+    for (String expression : EXPRESSIONS) {
+      XPathExpression compiledExpression = XPathFactory.newInstance().newXPath().compile(expression);
+      blackhole.consume(compiledExpression.evaluate(document, XPathConstants.NODESET));
+    }
+  }
+
+  @Benchmark
+  public void cachedFactories(Blackhole blackhole) {
+    Document document = XmlUtils.parseXml(this.pom);
+
+    for (String expression : EXPRESSIONS) {
+      blackhole.consume(XmlUtils.evaluateXPathAsNodeList(expression, document));
+    }
+  }
+
+  @Benchmark
+  public void precompiledExpressions(Blackhole blackhole) {
+    Document document = XmlUtils.parseXml(this.pom);
+
+    for (CompiledXPath expression : COMPILED_EXPRESSIONS) {
+      blackhole.consume(expression.evaluateAsNodeList(document));
+    }
+  }
+}
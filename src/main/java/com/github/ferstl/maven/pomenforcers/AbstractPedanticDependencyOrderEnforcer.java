@@ -18,15 +18,22 @@ package com.github.ferstl.maven.pomenforcers;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
 import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
 import com.github.ferstl.maven.pomenforcers.model.functions.DependencyMatcher;
 import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolation;
+import com.github.ferstl.maven.pomenforcers.priority.SortKeys;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.Sets;
@@ -40,6 +47,8 @@ abstract class AbstractPedanticDependencyOrderEnforcer extends AbstractPedanticE
 
   private final CompoundPriorityOrdering<DependencyModel, String, DependencyElement> artifactOrdering;
 
+  private boolean showDiff = true;
+
   public AbstractPedanticDependencyOrderEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
     super(project, helper);
     this.artifactOrdering = CompoundPriorityOrdering.orderBy(SCOPE, GROUP_ID, ARTIFACT_ID);
@@ -114,24 +123,85 @@ abstract class AbstractPedanticDependencyOrderEnforcer extends AbstractPedanticE
     this.artifactOrdering.setPriorities(DependencyElement.SCOPE, scopePriorities);
   }
 
+  /**
+   * If set to <code>false</code>, only the dependencies that are out of order are reported instead of a diff between
+   * the actual and the required order. This avoids sorting and diffing very long dependency lists.
+   *
+   * @param showDiff Whether to report the diff between the actual and the required order.
+   * @configParam
+   * @default true
+   * @since 2.4.0
+   */
+  public void setShowDiff(boolean showDiff) {
+    this.showDiff = showDiff;
+  }
+
   protected abstract Collection<DependencyModel> getDeclaredDependencies();
 
   protected abstract Collection<Dependency> getMavenDependencies(MavenProject mavenProject);
 
+  /**
+   * Returns the location of a declared dependency.
+   *
+   * @param index Position of the dependency in {@link #getDeclaredDependencies()}.
+   * @return The location of the dependency.
+   */
+  protected abstract SourceLocation getDeclaredLocation(int index);
+
+  /**
+   * Returns the absolute path of the element that contains the declared dependencies.
+   *
+   * @return The path of the declared dependencies, e.g. <code>/project/dependencies</code>.
+   */
+  protected abstract String getDeclarationPath();
+
   protected abstract void reportError(
       ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies);
 
   @Override
   protected final void doEnforce(ErrorReport report) {
     MavenProject mavenProject = getMavenProject();
-    DependencyMatcher dependencyMatcher = new DependencyMatcher(getHelper());
+    DependencyMatcher dependencyMatcher = new DependencyMatcher(getInterpolator());
 
-    BiMap<DependencyModel, DependencyModel> matchedDependencies =
-        dependencyMatcher.match(getMavenDependencies(mavenProject), getDeclaredDependencies());
+    BiMap<DependencyModel, DependencyModel> matchedDependencies = measure(MetricPhase.MATCH,
+        () -> dependencyMatcher.match(getMavenDependencies(mavenProject), getDeclaredDependencies()), Map::size);
 
     Set<DependencyModel> resolvedDependencies = matchedDependencies.keySet();
-    if (!this.artifactOrdering.isOrdered(resolvedDependencies)) {
-      reportError(report, resolvedDependencies, this.artifactOrdering.immutableSortedCopy(resolvedDependencies));
+    SortKeys<DependencyModel> sortKeys =
+        measure(MetricPhase.ORDER, () -> this.artifactOrdering.sortKeys(resolvedDependencies), SortKeys::size);
+    List<OrderViolation<DependencyModel>> violations = sortKeys.getViolations();
+    if (violations.isEmpty()) {
+      return;
+    }
+
+    Map<DependencyModel, Integer> positions = getDeclaredPositions(getDeclaredDependencies());
+    for (OrderViolation<DependencyModel> violation : violations) {
+      Integer position = positions.get(matchedDependencies.get(violation.getElement()));
+      int index = position != null ? position : -1;
+      report.at(getDeclarationPath() + "/dependency", index, getDeclaredLocation(index), violation.toString());
+    }
+
+    if (!this.showDiff) {
+      report.addLine("These dependencies are out of order:")
+          .emptyLine()
+          .addOrderViolations(violations);
+      if (!isFix()) {
+        return;
+      }
+    }
+
+    List<DependencyModel> sortedDependencies = sortKeys.sortedCopy();
+    if (this.showDiff) {
+      reportError(report, resolvedDependencies, sortedDependencies);
+    }
+
+    // The POM can only be fixed if all declared dependencies were resolved
+    if (isFix()) {
+      List<DependencyModel> requiredOrder = sortedDependencies.stream().map(matchedDependencies::get).collect(toList());
+      int[] order = getDeclaredOrder(getDeclaredDependencies(), requiredOrder);
+      if (order != null) {
+        report.addFix(PomFix.reorder(getDeclarationPath(), 0, order));
+      }
     }
   }
 }
@@ -15,16 +15,49 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
-import javax.xml.bind.JAXB;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import org.apache.maven.enforcer.rule.api.AbstractEnforcerRule;
 import org.apache.maven.enforcer.rule.api.EnforcerLevel;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
 import org.apache.maven.enforcer.rule.api.EnforcerRuleException;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
+import com.github.ferstl.maven.pomenforcers.fix.PomRewriter;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents.Span;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.github.ferstl.maven.pomenforcers.model.PomStructure;
 import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
-import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
+import com.github.ferstl.maven.pomenforcers.report.ReportFormat;
+import com.github.ferstl.maven.pomenforcers.report.RuleMetrics;
+import com.github.ferstl.maven.pomenforcers.report.Violation;
+import com.github.ferstl.maven.pomenforcers.report.ViolationWriter;
+import com.github.ferstl.maven.pomenforcers.util.LineWriter;
+import com.github.ferstl.maven.pomenforcers.util.PropertyInterpolator;
+import com.github.ferstl.maven.pomenforcers.util.SideBySideDiffUtil;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import static java.util.Collections.singletonList;
 
 public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
 
@@ -32,8 +65,9 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
 
   private final MavenProject project;
 
-  private Document pom;
-  private ProjectModel projectModel;
+  private ParsedPom parsedPom;
+
+  private PropertyInterpolator interpolator;
 
   /**
    * If set to <code>true</code>, the enforcer rule will only issue a warning in the log and not fail the build.
@@ -45,6 +79,86 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
    */
   private boolean warnOnly;
 
+  /**
+   * Maximum number of characters of the error report in the build output. Longer reports are truncated. Use this
+   * option to keep the build output manageable when large POMs or many modules produce huge reports. A value of
+   * <code>0</code> disables the limit.
+   *
+   * @configParam
+   * @default 0
+   * @since 2.4.0
+   */
+  private int maxReportLength;
+
+  /**
+   * File to which the full error report is written. The build output then only contains the error report up to
+   * <code>maxReportLength</code> characters. If this option is not set, the error report is written to the Maven log.
+   *
+   * @configParam
+   * @default n/a
+   * @since 2.4.0
+   */
+  private File errorReportFile;
+
+  /**
+   * Maximum number of changed lines for which the order rules show a side-by-side diff between the actual and the
+   * required order. If more lines are changed, e.g. when a long dependency list is badly ordered, only the first 100
+   * moved, removed and added lines are listed. Lower values also reduce the time that is spent on creating the diff.
+   *
+   * @configParam
+   * @default 1000
+   * @since 2.4.0
+   */
+  private int maxDiffChanges = SideBySideDiffUtil.DEFAULT_MAX_CHANGES;
+
+  /**
+   * If set to <code>true</code>, the order rules rewrite the POM file into the required order instead of failing the
+   * build. This applies to the order of the POM sections, the modules, the dependencies, the managed dependencies and
+   * plugins as well as to the order of the elements within dependencies and plugins. Only the affected elements are
+   * moved. Comments, whitespace and formatting are preserved. Violations that cannot be fixed are reported as usual.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean fix;
+
+  /**
+   * Writes the violations of this rule in a machine-readable format in addition to the error report. Supported
+   * formats are <code>jsonl</code> (one JSON object per line), <code>sarif</code> (SARIF 2.1.0) and <code>junit</code>
+   * (JUnit XML). No file is written if this option is not set.
+   *
+   * @configParam
+   * @default n/a
+   * @since 2.4.0
+   */
+  private String reportFormat;
+
+  /**
+   * Directory to which the violations and the metrics are written. The files are named per module and rule, e.g.
+   * <code>violations-&lt;artifactId&gt;-&lt;RULE&gt;.sarif</code> and
+   * <code>metrics-&lt;artifactId&gt;-&lt;RULE&gt;.jsonl</code>, so the modules of a reactor build may share the same
+   * directory without overwriting each other's files.
+   *
+   * @configParam
+   * @default <code>${project.build.directory}/pedantic-pom-enforcers</code>
+   * @since 2.4.0
+   */
+  private File reportDirectory;
+
+  /**
+   * If set to <code>true</code>, the wall time, the CPU time and the allocated bytes of parsing the POM, matching
+   * artifacts, checking the order, executing the rules and rendering the reports are recorded per rule and module. The
+   * results are logged as table and written as JSON Lines to the <code>reportDirectory</code>.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean metrics;
+
+  private RuleMetrics ruleMetrics;
+
   public AbstractPedanticEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
     this.project = Objects.requireNonNull(project);
     this.helper = Objects.requireNonNull(helper);
@@ -52,17 +166,280 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
 
   @Override
   public final void execute() throws EnforcerRuleException {
-    Document pom = XmlUtils.parseXml(project.getFile());
-    ProjectModel model = JAXB.unmarshal(project.getFile(), ProjectModel.class);
+    if (this.metrics) {
+      this.ruleMetrics = new RuleMetrics();
+    }
+    // Resolved properties are only remembered within one execution since other plugins may change them
+    this.interpolator = new PropertyInterpolator(this.helper);
 
-    initialize(pom, model);
+    try {
+      enforce();
+    } finally {
+      if (this.ruleMetrics != null) {
+        try {
+          writeMetrics();
+        } catch (IllegalStateException e) {
+          // Do not hide the result of the rule
+          if (getLog() != null) {
+            getLog().warn(e.getMessage() + ": " + e.getCause());
+          }
+        }
+      }
+    }
+  }
+
+  private void enforce() throws EnforcerRuleException {
+    initialize(measure(MetricPhase.PARSE, () -> PomCache.getInstance().load(this.project.getFile()), parsedPom -> parsedPom.getProjectModel().getArtifactCount()));
+
+    ErrorReport report = new ErrorReport(getDescription())
+        .forModule(this.project.getGroupId() + ":" + this.project.getArtifactId(), this.project.getFile())
+        .limitDiffs(this.maxDiffChanges);
+    measure(MetricPhase.ENFORCE, () -> doEnforce(report));
+
+    if (fixErrors(this.project, this.parsedPom, singletonList(report)).isEmpty()) {
+      return;
+    }
 
-    ErrorReport report = new ErrorReport(getDescription());
-    doEnforce(report);
+    if (this.reportFormat != null) {
+      measure(MetricPhase.REPORT, () -> writeViolations(report.getViolations()));
+    }
+
+    if (getLog() != null) {
+      getLog().debug(() -> "Property interpolation in " + this.project.getId() + ": " + getInterpolator());
+    }
 
     if (report.hasErrors()) {
-      throw new EnforcerRuleException(report.toString());
+      throw new EnforcerRuleException(measure(MetricPhase.REPORT, () -> writeReport(report)));
+    }
+  }
+
+  /**
+   * Streams the error report to the <code>errorReportFile</code> or to the Maven log.
+   *
+   * @param report The error report.
+   * @return The message of the enforcer rule exception.
+   */
+  private String writeReport(ErrorReport report) {
+    if (this.errorReportFile != null) {
+      try {
+        Files.createDirectories(this.errorReportFile.getAbsoluteFile().getParentFile().toPath());
+        try (Writer out = Files.newBufferedWriter(this.errorReportFile.toPath(), StandardCharsets.UTF_8)) {
+          report.writeTo(out);
+        }
+      } catch (IOException e) {
+        throw new IllegalStateException("Unable to write error report to " + this.errorReportFile, e);
+      }
+      return report.toString(this.maxReportLength) + System.lineSeparator() + System.lineSeparator()
+          + "The full report has been written to " + this.errorReportFile;
     }
+
+    if (getLog() == null) {
+      return report.toString(this.maxReportLength);
+    }
+
+    EnforcerLogger log = getLog();
+    Consumer<String> logLine = getLevel() == EnforcerLevel.WARN ? log::warn : log::error;
+    try (LineWriter out = new LineWriter(logLine)) {
+      report.writeTo(out, this.maxReportLength);
+    } catch (IOException e) {
+      // Does not happen with a LineWriter
+      throw new UncheckedIOException(e);
+    }
+    return report.getRule().name() + ": " + report.getRule().getSlogan() + " See the report above.";
+  }
+
+  /**
+   * Executes the given action and records its resource usage if <code>metrics</code> are enabled. A flight recorder
+   * event is emitted for the action if a recording is running.
+   *
+   * @param phase The phase to which the action belongs.
+   * @param action The action.
+   * @param <T> Result type of the action.
+   * @return The result of the action.
+   */
+  protected <T> T measure(MetricPhase phase, Supplier<T> action) {
+    return measure(this.project, phase, action, result -> 0);
+  }
+
+  /**
+   * Executes the given action and records its resource usage if <code>metrics</code> are enabled. A flight recorder
+   * event with the number of processed elements is emitted for the action if a recording is running.
+   *
+   * @param phase The phase to which the action belongs.
+   * @param action The action.
+   * @param elementCount Returns the number of elements that were processed by the action.
+   * @param <T> Result type of the action.
+   * @return The result of the action.
+   */
+  protected <T> T measure(MetricPhase phase, Supplier<T> action, ToIntFunction<? super T> elementCount) {
+    return measure(this.project, phase, action, elementCount);
+  }
+
+  /**
+   * Executes the given action and records its resource usage if <code>metrics</code> are enabled. A flight recorder
+   * event is emitted for the action if a recording is running.
+   *
+   * @param phase The phase to which the action belongs.
+   * @param action The action.
+   */
+  protected void measure(MetricPhase phase, Runnable action) {
+    measure(this.project, phase, () -> {
+      action.run();
+      return null;
+    }, result -> 0);
+  }
+
+  <T> T measure(MavenProject module, MetricPhase phase, Supplier<T> action, ToIntFunction<? super T> elementCount) {
+    String moduleId = module.getGroupId() + ":" + module.getArtifactId();
+    try (Span span = EnforcerEvents.begin(phase, moduleId, getDescription())) {
+      T result = this.ruleMetrics != null
+          ? this.ruleMetrics.measure(moduleId, getDescription(), phase, action)
+          : action.get();
+      span.setElements(elementCount.applyAsInt(result));
+      return result;
+    }
+  }
+
+  RuleMetrics getRuleMetrics() {
+    return this.ruleMetrics;
+  }
+
+  void setRuleMetrics(RuleMetrics ruleMetrics) {
+    this.ruleMetrics = ruleMetrics;
+  }
+
+  private void writeMetrics() {
+    if (getLog() != null) {
+      getLog().info("Metrics of " + getDescription() + ":\n" + this.ruleMetrics.toTable());
+    }
+
+    File file = getOutputFile("metrics", "jsonl");
+    try {
+      Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+      try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+        this.ruleMetrics.writeTo(out);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write metrics to " + file, e);
+    }
+  }
+
+  /**
+   * Applies the fixes of the given reports to the POM file of the given project if the <code>fix</code> option is
+   * enabled. Fixes of nested elements are applied first, so they do not affect the positions of the elements that are
+   * fixed afterwards.
+   *
+   * @param project The project.
+   * @param parsedPom The parsed POM of the project.
+   * @param reports Reports containing errors.
+   * @return The reports that could not be fixed.
+   */
+  List<ErrorReport> fixErrors(MavenProject project, ParsedPom parsedPom, List<ErrorReport> reports) {
+    byte[] content = this.fix ? parsedPom.getContent() : null;
+    if (content == null || reports.stream().noneMatch(ErrorReport::hasFixes)) {
+      return reports;
+    }
+
+    List<Entry<ErrorReport, PomFix>> fixes = new ArrayList<>();
+    for (ErrorReport report : reports) {
+      for (PomFix pomFix : report.getFixes()) {
+        fixes.add(Maps.immutableEntry(report, pomFix));
+      }
+    }
+    fixes.sort(Comparator.comparingInt((Entry<ErrorReport, PomFix> entry) -> entry.getValue().getDepth()).reversed());
+
+    PomRewriter rewriter = new PomRewriter(content);
+    Map<ErrorReport, Boolean> fixed = new IdentityHashMap<>();
+    boolean modified = false;
+    for (Entry<ErrorReport, PomFix> entry : fixes) {
+      boolean applied = rewriter.apply(entry.getValue());
+      fixed.merge(entry.getKey(), applied, Boolean::logicalAnd);
+      modified |= applied;
+    }
+
+    File pomFile = project.getFile();
+    if (modified) {
+      try {
+        Files.write(pomFile.toPath(), rewriter.getContent());
+      } catch (IOException e) {
+        throw new IllegalStateException("Unable to write fixed POM file " + pomFile, e);
+      } finally {
+        // The modification time and size of the rewritten file may be the same as before
+        PomCache.getInstance().invalidate(pomFile);
+      }
+    }
+
+    List<ErrorReport> remainingReports = new ArrayList<>(reports.size());
+    for (ErrorReport report : reports) {
+      if (fixed.getOrDefault(report, false)) {
+        if (getLog() != null) {
+          getLog().info("Fixed " + report.getRule() + " in " + pomFile);
+        }
+      } else {
+        remainingReports.add(report);
+      }
+    }
+    return remainingReports;
+  }
+
+  private void writeViolations(List<Violation> violations) {
+    ReportFormat format = ReportFormat.getByName(this.reportFormat);
+    File file = getOutputFile("violations", format.getFileExtension());
+
+    try {
+      Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+      try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+           ViolationWriter writer = format.createWriter(out)) {
+        for (Violation violation : violations) {
+          writer.write(violation);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write violations to " + file, e);
+    }
+
+    if (getLog() != null) {
+      getLog().debug(() -> "Wrote " + violations.size() + " violation(s) to " + file);
+    }
+  }
+
+  private File getOutputFile(String prefix, String extension) {
+    String fileName = prefix + "-" + this.project.getArtifactId() + "-" + getDescription().name() + "." + extension;
+    if (this.reportDirectory != null) {
+      return new File(this.reportDirectory, fileName);
+    }
+
+    String buildDirectory = this.project.getBuild() != null ? this.project.getBuild().getDirectory() : null;
+    File baseDirectory = buildDirectory != null ? new File(buildDirectory) : new File(this.project.getBasedir(), "target");
+    return new File(new File(baseDirectory, ResultCache.DIRECTORY_NAME), fileName);
+  }
+
+  public void setFix(boolean fix) {
+    this.fix = fix;
+  }
+
+  protected boolean isFix() {
+    return this.fix;
+  }
+
+  public void setErrorReportFile(File errorReportFile) {
+    this.errorReportFile = errorReportFile;
+  }
+
+  public void setReportFormat(String reportFormat) {
+    this.reportFormat = reportFormat;
+  }
+
+  public void setReportDirectory(File reportDirectory) {
+    this.reportDirectory = reportDirectory;
+  }
+
+  public void setMaxDiffChanges(int maxDiffChanges) {
+    this.maxDiffChanges = maxDiffChanges;
+  }
+
+  int getMaxDiffChanges() {
+    return this.maxDiffChanges;
   }
 
   /**
@@ -74,24 +451,93 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
    * @param projectModel Project model.
    */
   void initialize(Document pom, ProjectModel projectModel) {
-    this.pom = pom;
-    this.projectModel = projectModel;
+    initialize(ParsedPom.fromDocument(pom, projectModel));
+  }
+
+  void initialize(ParsedPom parsedPom) {
+    this.parsedPom = parsedPom;
   }
 
   protected ExpressionEvaluator getHelper() {
     return this.helper;
   }
 
+  /**
+   * Returns the property interpolator of the current execution. Within a compound enforcer, the interpolator is shared
+   * by all rules that are executed for the same project.
+   *
+   * @return The property interpolator.
+   */
+  protected PropertyInterpolator getInterpolator() {
+    if (this.interpolator == null) {
+      this.interpolator = new PropertyInterpolator(this.helper);
+    }
+    return this.interpolator;
+  }
+
+  void setInterpolator(PropertyInterpolator interpolator) {
+    this.interpolator = interpolator;
+  }
+
   protected MavenProject getMavenProject() {
     return this.project;
   }
 
   protected Document getPom() {
-    return this.pom;
+    return this.parsedPom.getDocument();
+  }
+
+  protected PomStructure getPomStructure() {
+    return this.parsedPom.getStructure();
   }
 
   protected ProjectModel getProjectModel() {
-    return this.projectModel;
+    return this.parsedPom.getProjectModel();
+  }
+
+  /**
+   * Returns the positions of the declared elements, e.g. the dependencies of the {@link #getProjectModel() project
+   * model}. The elements are compared by identity.
+   *
+   * @param declaredElements The declared elements.
+   * @return The position of each declared element.
+   */
+  protected static <T> Map<T, Integer> getDeclaredPositions(Iterable<T> declaredElements) {
+    Map<T, Integer> positions = new IdentityHashMap<>();
+    for (T declaredElement : declaredElements) {
+      positions.put(declaredElement, positions.size());
+    }
+    return positions;
+  }
+
+  /**
+   * Returns the positions of the declared elements in their required order, e.g. for a
+   * {@link PomFix#reorder(String, int, int[]) reorder fix}. The elements are compared by identity.
+   *
+   * @param declaredElements The declared elements.
+   * @param requiredOrder The declared elements in their required order.
+   * @return The positions of the declared elements or <code>null</code> if the required order does not contain each
+   * declared element exactly once.
+   */
+  protected static <T> int[] getDeclaredOrder(Collection<T> declaredElements, List<T> requiredOrder) {
+    if (declaredElements.size() != requiredOrder.size()) {
+      return null;
+    }
+
+    Map<T, Integer> positions = getDeclaredPositions(declaredElements);
+    int[] order = new int[requiredOrder.size()];
+    for (int i = 0; i < order.length; i++) {
+      Integer position = positions.remove(requiredOrder.get(i));
+      if (position == null) {
+        return null;
+      }
+      order[i] = position;
+    }
+    return order;
+  }
+
+  ParsedPom getParsedPom() {
+    return this.parsedPom;
   }
 
   protected abstract PedanticEnforcerRule getDescription();
@@ -105,8 +551,39 @@ public abstract class AbstractPedanticEnforcer extends AbstractEnforcerRule {
     return this.warnOnly ? EnforcerLevel.WARN : EnforcerLevel.ERROR;
   }
 
+  /**
+   * Returns an id that identifies the result of this rule within a Maven session. The id is derived from the
+   * effective configuration of this rule, the Maven project and the content of its POM file. The
+   * maven-enforcer-plugin skips this rule if it has already been executed with the same id in the current session,
+   * e.g. in another execution of the same project. Only the content hash of the POM is computed here. The POM is
+   * parsed when the rule is executed, so nothing is parsed for rules that are skipped.
+   *
+   * @return The cache id or {@code null} if the POM file cannot be read.
+   */
   @Override
   public String getCacheId() {
-    return getClass() + "-uncachable";
+    File pomFile = this.project.getFile();
+    if (pomFile == null || !pomFile.exists()) {
+      return null;
+    }
+
+    String contentHash;
+    try {
+      contentHash = PomCache.getInstance().getContentHash(pomFile);
+    } catch (IllegalStateException e) {
+      // Let execute() report the problem
+      return null;
+    }
+
+    return Hashing.sha256().newHasher()
+        .putString(ConfigurationFingerprint.of(this), StandardCharsets.UTF_8)
+        .putByte((byte) 0)
+        .putString(String.valueOf(this.project.getId()), StandardCharsets.UTF_8)
+        .putByte((byte) 0)
+        .putString(pomFile.getAbsolutePath(), StandardCharsets.UTF_8)
+        .putByte((byte) 0)
+        .putString(contentHash, StandardCharsets.UTF_8)
+        .hash()
+        .toString();
   }
 }
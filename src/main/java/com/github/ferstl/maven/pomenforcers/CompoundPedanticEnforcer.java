@@ -17,13 +17,28 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.PluginParameterExpressionEvaluator;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
+import com.github.ferstl.maven.pomenforcers.util.PropertyInterpolator;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Sets;
 
 /**
@@ -50,6 +65,8 @@ import com.google.common.collect.Sets;
  *         &lt;dependencyManagementScopePriorities&gt;compile,runtime,provided&lt;/dependencyManagementScopePriorities&gt;
  *         &lt;dependencyManagementGroupIdPriorities&gt;com.myproject,com.mylibs&lt;/dependencyManagementGroupIdPriorities&gt;
  *         &lt;dependencyManagementArtifactIdPriorities&gt;commons-,utils-&lt;/dependencyManagementArtifactIdPriorities&gt;
+ *         &lt;!-- DEPENDENCY_ORDER, DEPENDENCY_MANAGEMENT_ORDER and PLUGIN_MANAGEMENT_ORDER configuration --&gt;
+ *         &lt;showOrderDiff&gt;true&lt;/showOrderDiff&gt;
  *         &lt;!-- DEPENDENCY_CONFIGURATION configuration --&gt;
  *         &lt;manageDependencyVersions&gt;true&lt;/manageDependencyVersions&gt;
  *         &lt;allowUnmanagedProjectVersionsInDependencies&gt;true&lt;/allowUnmanagedProjectVersionsInDependencies&gt;
@@ -90,6 +107,16 @@ import com.google.common.collect.Sets;
  *         &lt;dependencyElementOrdering&gt;groupId,artifactid,version&lt;/dependencyElementOrdering&gt;
  *         &lt;checkDependencyElements&gt;true&lt;/checkDependencyElements&gt;
  *         &lt;checkDependencyManagementElements&gt;true&lt;/checkDependencyManagementElements&gt;
+ *         &lt;!-- Execution --&gt;
+ *         &lt;parallel&gt;true&lt;/parallel&gt;
+ *         &lt;aggregate&gt;false&lt;/aggregate&gt;
+ *         &lt;cacheResults&gt;false&lt;/cacheResults&gt;
+ *         &lt;threads&gt;4&lt;/threads&gt;
+ *         &lt;!-- Reporting and fixing --&gt;
+ *         &lt;reportFormat&gt;sarif&lt;/reportFormat&gt;
+ *         &lt;maxDiffChanges&gt;1000&lt;/maxDiffChanges&gt;
+ *         &lt;fix&gt;false&lt;/fix&gt;
+ *         &lt;metrics&gt;true&lt;/metrics&gt;
  *       &lt;/compound&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -452,6 +479,67 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
    */
   private Boolean checkPluginManagementElements;
 
+  /**
+   * See {@link AbstractPedanticDependencyOrderEnforcer#setShowDiff(boolean)} and
+   * {@link PedanticPluginManagementOrderEnforcer#setShowDiff(boolean)}.
+   *
+   * @configParam
+   * @since 2.4.0
+   */
+  private Boolean showOrderDiff;
+
+  /**
+   * If set to <code>true</code>, the configured enforcers are executed concurrently. The results are still reported
+   * in the order of the <code>enforcers</code> setting.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean parallel;
+
+  /**
+   * If set to <code>true</code>, all modules of the reactor are enforced in a single pass within the execution root
+   * project, or within the last project of the reactor if the execution root is not part of it (e.g. when using
+   * <code>-pl</code> or <code>-rf</code>). The enforcers are skipped in all other modules. The errors of all modules are reported in one
+   * consolidated report, grouped by module. The modules are processed concurrently with up to <code>threads</code>
+   * threads. The <code>parallel</code> setting has no effect in this mode.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean aggregate;
+
+  /**
+   * If set to <code>true</code>, successful results are recorded in
+   * <code>${project.build.directory}/pedantic-pom-enforcers</code>. The enforcers are skipped in subsequent builds
+   * as long as neither the POM file, the effective dependencies and plugins of the project, the enforcer
+   * configuration nor the version of the enforcers change.
+   *
+   * @configParam
+   * @default false
+   * @since 2.4.0
+   */
+  private boolean cacheResults;
+
+  /**
+   * Fingerprint of this enforcer's configuration, if results are cached. Transient to exclude it from the fingerprint
+   * itself.
+   */
+  private transient String configurationFingerprint;
+
+  /**
+   * Maximum number of threads that execute enforcers in <code>parallel</code> mode or modules in
+   * <code>aggregate</code> mode. The threads are shared between all modules of a multi-threaded reactor build
+   * (<code>-T</code>), so the cores are not oversubscribed when several modules are enforced at the same time.
+   *
+   * @configParam
+   * @default Number of available processors
+   * @since 2.4.0
+   */
+  private int threads;
+
   /**
    * Collection of enforcers to execute.
    */
@@ -470,6 +558,22 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
     CommaSeparatorUtils.splitAndAddToCollection(enforcers, this.enforcers, PedanticEnforcerRule::valueOf);
   }
 
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  public void setAggregate(boolean aggregate) {
+    this.aggregate = aggregate;
+  }
+
+  public void setCacheResults(boolean cacheResults) {
+    this.cacheResults = cacheResults;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return PedanticEnforcerRule.COMPOUND;
@@ -483,21 +587,207 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
   @Override
   protected void doEnforce(ErrorReport report) {
     report.useLargeTitle();
+    this.configurationFingerprint = this.cacheResults ? ConfigurationFingerprint.of(this) : null;
 
-    List<ErrorReport> ruleErrors = new ArrayList<>();
+    if (this.aggregate) {
+      enforceReactor(report);
+    } else {
+      List<ErrorReport> ruleErrors = enforceModule(getMavenProject(), getHelper(), getParsedPom(), this.parallel);
+      collectErrors(report, ruleErrors);
+    }
+  }
+
+  private void enforceReactor(ErrorReport report) {
+    MavenSession session = evaluate("${session}", MavenSession.class);
+    MojoExecution mojoExecution = evaluate("${mojoExecution}", MojoExecution.class);
+    List<MavenProject> modules = session.getProjects();
+
+    MavenProject currentProject = getMavenProject();
+    if (!currentProject.equals(getAggregatingProject(modules))) {
+      // All modules are enforced within the aggregating project.
+      return;
+    }
+
+    ExecutorService executor = SharedExecutors.get(getThreadCount());
+    List<Future<List<ErrorReport>>> results = new ArrayList<>(modules.size());
+    for (MavenProject module : modules) {
+      if (module.equals(currentProject)) {
+        results.add(executor.submit(() -> enforceModule(module, getHelper(), getParsedPom(), false)));
+      } else {
+        ExpressionEvaluator moduleHelper = createModuleHelper(session, mojoExecution, module);
+        results.add(executor.submit(() -> {
+          ParsedPom modulePom = measure(module, MetricPhase.PARSE,
+              () -> PomCache.getInstance().load(module.getFile()), parsedPom -> parsedPom.getProjectModel().getArtifactCount());
+          return enforceModule(module, moduleHelper, modulePom, false);
+        }));
+      }
+    }
+
+    // Collect the reports in the reactor order
+    Map<MavenProject, List<ErrorReport>> moduleErrors = new LinkedHashMap<>();
+    try {
+      for (int i = 0; i < modules.size(); i++) {
+        List<ErrorReport> ruleErrors = results.get(i).get();
+        if (!ruleErrors.isEmpty()) {
+          moduleErrors.put(modules.get(i), ruleErrors);
+        }
+      }
+    } catch (InterruptedException e) {
+      cancel(results);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while enforcing modules", e);
+    } catch (ExecutionException e) {
+      cancel(results);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException("Unable to enforce module", e.getCause());
+    }
+    collectModuleErrors(report, moduleErrors);
+  }
+
+  /**
+   * Returns the project in which the whole reactor is enforced. This is the execution root project if it is part of
+   * the reactor. Otherwise, e.g. when the build is restricted with <code>-pl</code> or resumed with <code>-rf</code>,
+   * it is the last project of the reactor.
+   *
+   * @param modules The projects of the reactor.
+   * @return The aggregating project.
+   */
+  private static MavenProject getAggregatingProject(List<MavenProject> modules) {
+    for (MavenProject module : modules) {
+      if (module.isExecutionRoot()) {
+        return module;
+      }
+    }
+
+    return modules.get(modules.size() - 1);
+  }
+
+  private List<ErrorReport> enforceModule(MavenProject project, ExpressionEvaluator helper, ParsedPom parsedPom, boolean parallel) {
+    if (this.configurationFingerprint == null || parsedPom.getContentHash() == null) {
+      return fixErrors(project, parsedPom, executeRules(project, helper, parsedPom, parallel));
+    }
+
+    ResultCache resultCache = ResultCache.forProject(project);
+    String cacheKey = ResultCache.createKey(parsedPom, project, this.configurationFingerprint);
+    if (resultCache.contains(cacheKey)) {
+      if (getLog() != null) {
+        getLog().debug(() -> "Skipping unchanged project " + project.getId());
+      }
+      return Collections.emptyList();
+    }
+
+    List<ErrorReport> ruleErrors = executeRules(project, helper, parsedPom, parallel);
+    if (ruleErrors.isEmpty()) {
+      resultCache.put(cacheKey);
+    }
+    // Fixed POMs have a new content and therefore a new cache key
+    return fixErrors(project, parsedPom, ruleErrors);
+  }
+
+  private List<ErrorReport> executeRules(MavenProject project, ExpressionEvaluator helper, ParsedPom parsedPom, boolean parallel) {
+    boolean currentProject = project.equals(getMavenProject());
+    PropertyInterpolator interpolator = currentProject ? getInterpolator() : new PropertyInterpolator(helper);
+
+    List<AbstractPedanticEnforcer> rules = new ArrayList<>(this.enforcers.size());
     for (PedanticEnforcerRule pedanticEnforcer : this.enforcers) {
-      AbstractPedanticEnforcer rule = pedanticEnforcer.createEnforcerRule(getMavenProject(), getHelper());
-      rule.initialize(getPom(), getProjectModel());
+      AbstractPedanticEnforcer rule = pedanticEnforcer.createEnforcerRule(project, helper);
+      rule.initialize(parsedPom);
       rule.accept(this.propertyInitializer);
+      rule.setRuleMetrics(getRuleMetrics());
+      rule.setInterpolator(interpolator);
+      rule.setMaxDiffChanges(getMaxDiffChanges());
+      rule.setFix(isFix());
+      rules.add(rule);
+    }
 
-      ErrorReport ruleReport = new ErrorReport(rule.getDescription());
-      rule.doEnforce(ruleReport);
+    int threadCount = getThreadCount();
+    List<ErrorReport> ruleReports = parallel && threadCount > 1 && rules.size() > 1
+        ? enforceInParallel(rules, parsedPom, threadCount)
+        : enforceSequentially(rules);
+
+    // Statistics of the current project are logged by execute()
+    if (getLog() != null && !currentProject) {
+      getLog().debug(() -> "Property interpolation in " + project.getId() + ": " + interpolator);
+    }
 
+    List<ErrorReport> ruleErrors = new ArrayList<>();
+    for (ErrorReport ruleReport : ruleReports) {
       if (ruleReport.hasErrors()) {
         ruleErrors.add(ruleReport);
       }
     }
-    collectErrors(report, ruleErrors);
+    return ruleErrors;
+  }
+
+  private int getThreadCount() {
+    return this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+  }
+
+  private <T> T evaluate(String expression, Class<T> type) {
+    try {
+      return type.cast(getHelper().evaluate(expression));
+    } catch (ExpressionEvaluationException e) {
+      throw new IllegalStateException("Unable to evaluate " + expression, e);
+    }
+  }
+
+  private static ExpressionEvaluator createModuleHelper(MavenSession session, MojoExecution mojoExecution, MavenProject module) {
+    // The evaluator resolves expressions against the current project of the session
+    MavenSession moduleSession = session.clone();
+    moduleSession.setCurrentProject(module);
+    return new PluginParameterExpressionEvaluator(moduleSession, mojoExecution);
+  }
+
+  private static List<ErrorReport> enforceSequentially(List<AbstractPedanticEnforcer> rules) {
+    List<ErrorReport> ruleReports = new ArrayList<>(rules.size());
+    for (AbstractPedanticEnforcer rule : rules) {
+      ruleReports.add(enforce(rule));
+    }
+    return ruleReports;
+  }
+
+  private static List<ErrorReport> enforceInParallel(List<AbstractPedanticEnforcer> rules, ParsedPom parsedPom, int threadCount) {
+    // The rules share the parsed POM. Make sure its lazily created parts exist before they are accessed concurrently.
+    parsedPom.getStructure();
+
+    ExecutorService executor = SharedExecutors.get(threadCount);
+    List<Future<ErrorReport>> results = new ArrayList<>(rules.size());
+    for (AbstractPedanticEnforcer rule : rules) {
+      results.add(executor.submit(() -> enforce(rule)));
+    }
+
+    // Collect the reports in the order of the configured enforcers
+    List<ErrorReport> ruleReports = new ArrayList<>(rules.size());
+    try {
+      for (Future<ErrorReport> result : results) {
+        ruleReports.add(result.get());
+      }
+    } catch (InterruptedException e) {
+      cancel(results);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while executing enforcers", e);
+    } catch (ExecutionException e) {
+      cancel(results);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException("Unable to execute enforcer", e.getCause());
+    }
+
+    return ruleReports;
+  }
+
+  private static ErrorReport enforce(AbstractPedanticEnforcer rule) {
+    MavenProject project = rule.getMavenProject();
+    ErrorReport ruleReport = new ErrorReport(rule.getDescription())
+        .forModule(project.getGroupId() + ":" + project.getArtifactId(), project.getFile())
+        .limitDiffs(rule.getMaxDiffChanges());
+    rule.measure(MetricPhase.ENFORCE, () -> rule.doEnforce(ruleReport));
+    return ruleReport;
+  }
+
+  private static void cancel(List<? extends Future<?>> results) {
+    for (Future<?> result : results) {
+      result.cancel(true);
+    }
   }
 
   private void collectErrors(ErrorReport compoundReport, List<ErrorReport> ruleErrors) {
@@ -507,7 +797,24 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
           .addLine("Please fix these problems:")
           .emptyLine();
       for (ErrorReport ruleError : ruleErrors) {
-        compoundReport.addLine(ruleError.toString()).emptyLine().emptyLine();
+        compoundReport.addLine(ruleError).emptyLine().emptyLine();
+      }
+    }
+  }
+
+  private static void collectModuleErrors(ErrorReport compoundReport, Map<MavenProject, List<ErrorReport>> moduleErrors) {
+    if (!moduleErrors.isEmpty()) {
+      compoundReport
+          .addLine("Please fix these problems:")
+          .emptyLine();
+      for (Entry<MavenProject, List<ErrorReport>> entry : moduleErrors.entrySet()) {
+        MavenProject module = entry.getKey();
+        String moduleTitle = "Module " + module.getGroupId() + ":" + module.getArtifactId();
+        compoundReport.addLine(moduleTitle).addLine(Strings.repeat("-", moduleTitle.length())).emptyLine();
+
+        for (ErrorReport ruleError : entry.getValue()) {
+          compoundReport.addLine(ruleError).emptyLine().emptyLine();
+        }
       }
     }
   }
@@ -530,6 +837,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
 
     @Override
     public void visit(PedanticDependencyManagementOrderEnforcer enforcer) {
+      if (CompoundPedanticEnforcer.this.showOrderDiff != null) {
+        enforcer.setShowDiff(CompoundPedanticEnforcer.this.showOrderDiff);
+      }
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.dependencyManagementOrderBy)) {
         enforcer.setOrderBy(CompoundPedanticEnforcer.this.dependencyManagementOrderBy);
       }
@@ -556,6 +866,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
 
     @Override
     public void visit(PedanticDependencyOrderEnforcer enforcer) {
+      if (CompoundPedanticEnforcer.this.showOrderDiff != null) {
+        enforcer.setShowDiff(CompoundPedanticEnforcer.this.showOrderDiff);
+      }
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.dependenciesOrderBy)) {
         enforcer.setOrderBy(CompoundPedanticEnforcer.this.dependenciesOrderBy);
       }
@@ -628,6 +941,9 @@ public class CompoundPedanticEnforcer extends AbstractPedanticEnforcer {
       if (!Strings.isNullOrEmpty(CompoundPedanticEnforcer.this.pluginManagementArtifactIdPriorities)) {
         enforcer.setArtifactIdPriorities(CompoundPedanticEnforcer.this.pluginManagementArtifactIdPriorities);
       }
+      if (CompoundPedanticEnforcer.this.showOrderDiff != null) {
+        enforcer.setShowDiff(CompoundPedanticEnforcer.this.showOrderDiff);
+      }
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import org.apache.maven.enforcer.rule.api.AbstractEnforcerRule;
+import com.google.common.collect.Multimap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Creates a canonical fingerprint of the configuration of an enforcer rule. The configuration consists of all
+ * instance fields of the rule that hold configuration values, i.e. strings, primitives, enums, files, collections, maps
+ * and orderings. The string representation of these values must reflect their content. Static and transient fields as
+ * well as fields of other types, such as the Maven project, are not part of the configuration.
+ */
+final class ConfigurationFingerprint {
+
+  /**
+   * Creates the fingerprint of the given rule's configuration.
+   *
+   * @param rule The enforcer rule.
+   * @return Hex-encoded hash of the rule's configuration.
+   */
+  static String of(AbstractEnforcerRule rule) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(rule.getClass().getName(), StandardCharsets.UTF_8);
+
+    for (Entry<String, String> entry : collectConfiguration(rule).entrySet()) {
+      hasher
+          .putByte((byte) 0)
+          .putString(entry.getKey(), StandardCharsets.UTF_8)
+          .putByte((byte) '=')
+          .putString(entry.getValue(), StandardCharsets.UTF_8);
+    }
+
+    return hasher.hash().toString();
+  }
+
+  private static Map<String, String> collectConfiguration(AbstractEnforcerRule rule) {
+    // Sorted by the qualified field name in order to get a canonical representation.
+    Map<String, String> configuration = new TreeMap<>();
+
+    for (Class<?> type = rule.getClass(); type != AbstractEnforcerRule.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+            || !isConfigurationType(field.getType())) {
+          continue;
+        }
+
+        field.setAccessible(true);
+        try {
+          configuration.put(type.getName() + "." + field.getName(), String.valueOf(field.get(rule)));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException("Unable to read configuration " + field, e);
+        }
+      }
+    }
+
+    return configuration;
+  }
+
+  private static boolean isConfigurationType(Class<?> type) {
+    return type.isPrimitive()
+        || type.isEnum()
+        || type == String.class
+        || Number.class.isAssignableFrom(type)
+        || type == Boolean.class
+        || type == File.class
+        || Collection.class.isAssignableFrom(type)
+        || Map.class.isAssignableFrom(type)
+        || Multimap.class.isAssignableFrom(type)
+        || Comparator.class.isAssignableFrom(type);
+  }
+
+  private ConfigurationFingerprint() {
+  }
+}
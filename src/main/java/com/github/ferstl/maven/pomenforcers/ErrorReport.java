@@ -15,10 +15,22 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents.Span;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolation;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
+import com.github.ferstl.maven.pomenforcers.report.Violation;
 import com.github.ferstl.maven.pomenforcers.util.SideBySideDiffUtil;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
@@ -30,11 +42,17 @@ public class ErrorReport {
 
   private static final String LIST_ITEM = "- ";
   private static final String LINE_SEPARATOR = System.getProperty("line.separator", "\n");
-  private static final Joiner LINE_JOINER = Joiner.on(LINE_SEPARATOR);
   private static final Joiner LIST_JOINER = Joiner.on(LINE_SEPARATOR + LIST_ITEM);
 
+  private final PedanticEnforcerRule rule;
   private final String title;
   private final Collection<Object> lines;
+  private final List<PomFix> fixes;
+  private final List<OffendingElement> offendingElements;
+
+  private String module;
+  private String pomFile;
+  private int maxDiffChanges = SideBySideDiffUtil.DEFAULT_MAX_CHANGES;
 
   private boolean useLargeTitle;
 
@@ -47,8 +65,58 @@ public class ErrorReport {
   }
 
   public ErrorReport(PedanticEnforcerRule rule) {
+    this.rule = rule;
     this.title = rule.name() + ": " + rule.getSlogan();
     this.lines = new LinkedList<>();
+    this.fixes = new ArrayList<>();
+    this.offendingElements = new ArrayList<>();
+  }
+
+  /**
+   * Sets the module and the POM file this report refers to. This information is only used for the structured
+   * {@link #getViolations() violations}.
+   *
+   * @param module Coordinates (<code>groupId:artifactId</code>) of the module.
+   * @param pomFile The POM file. May be {@code null}.
+   * @return This report.
+   */
+  public ErrorReport forModule(String module, File pomFile) {
+    this.module = module;
+    this.pomFile = pomFile != null ? pomFile.getPath() : null;
+    return this;
+  }
+
+  /**
+   * Adds an offending element. Rules add each element that violates them, so every element results in its own
+   * {@link #getViolations() violation}.
+   *
+   * @param path Absolute path of the element, e.g. <code>/project/dependencies/dependency</code>.
+   * @param occurrence Zero-based occurrence of the element in document order or <code>-1</code> if the element is not
+   * declared in the POM, e.g. an inherited dependency. In this case, the path should denote the enclosing element.
+   * @param location The location of the element, which may be {@link SourceLocation#UNKNOWN}.
+   * @param message Description of the violation of this element.
+   * @return This report.
+   */
+  public ErrorReport at(String path, int occurrence, SourceLocation location, String message) {
+    String element = occurrence >= 0 ? path + "[" + (occurrence + 1) + "]" : path;
+    this.offendingElements.add(new OffendingElement(element, location, message));
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of changed lines for which the diffs that are added afterwards are shown side by side.
+   * Diffs with more changes only list the moved, removed and added lines.
+   *
+   * @param maxChanges Maximum number of changed lines.
+   * @return This report.
+   */
+  public ErrorReport limitDiffs(int maxChanges) {
+    this.maxDiffChanges = maxChanges;
+    return this;
+  }
+
+  public PedanticEnforcerRule getRule() {
+    return this.rule;
   }
 
   public ErrorReport useLargeTitle() {
@@ -62,8 +130,8 @@ public class ErrorReport {
   }
 
   public ErrorReport addDiff(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle) {
-    String diff = SideBySideDiffUtil.diff(actual, required, leftTitle, rightTitle);
-    this.lines.add(diff);
+    // The diff is created when the report is rendered
+    this.lines.add(new DiffLine(actual, required, leftTitle, rightTitle, this.maxDiffChanges));
     return this;
   }
 
@@ -78,6 +146,11 @@ public class ErrorReport {
     return addDiff(actual, required, leftTitle, rightTitle, toStringFunction());
   }
 
+  public <T> ErrorReport addOrderViolations(Collection<OrderViolation<T>> violations) {
+    this.lines.add(toList(violations));
+    return this;
+  }
+
   public ErrorReport formatLine(String line, Object... params) {
     this.lines.add(String.format(line, params));
     return this;
@@ -92,19 +165,261 @@ public class ErrorReport {
     return !this.lines.isEmpty();
   }
 
+  /**
+   * Adds a fix for the errors in this report. Rules add fixes only if they are able to fix all of their errors.
+   *
+   * @param fix The fix.
+   * @return This report.
+   */
+  public ErrorReport addFix(PomFix fix) {
+    this.fixes.add(fix);
+    return this;
+  }
+
+  public List<PomFix> getFixes() {
+    return this.fixes;
+  }
+
+  public boolean hasFixes() {
+    return !this.fixes.isEmpty();
+  }
+
+  /**
+   * Returns the structured violations of this report. Each report without nested reports results in one violation
+   * per {@link #at(String, int, SourceLocation, String) offending element}, or in a single violation containing the
+   * whole message if it does not contain any offending elements.
+   * Reports that contain nested reports, such as the report of the {@link CompoundPedanticEnforcer}, return the
+   * violations of their nested reports.
+   *
+   * @return The violations of this report.
+   */
+  public List<Violation> getViolations() {
+    List<Violation> violations = new ArrayList<>();
+    collectViolations(violations);
+    return violations;
+  }
+
+  private void collectViolations(List<Violation> violations) {
+    List<String> message = new ArrayList<>();
+    List<String> expected = null;
+    List<String> actual = null;
+    boolean nested = false;
+
+    for (Object line : this.lines) {
+      if (line instanceof ErrorReport) {
+        ((ErrorReport) line).collectViolations(violations);
+        nested = true;
+      } else if (line instanceof DiffLine) {
+        DiffLine diffLine = (DiffLine) line;
+        expected = new ArrayList<>(diffLine.required);
+        actual = new ArrayList<>(diffLine.actual);
+      } else {
+        String text = String.valueOf(line);
+        if (!text.isEmpty()) {
+          message.add(text);
+        }
+      }
+    }
+
+    if (nested || !hasErrors()) {
+      return;
+    }
+
+    if (this.offendingElements.isEmpty()) {
+      violations.add(new Violation(this.rule, this.module, this.pomFile, null, 0, 0,
+          String.join(LINE_SEPARATOR, message), expected, actual));
+    }
+
+    for (OffendingElement offendingElement : this.offendingElements) {
+      SourceLocation location = offendingElement.location;
+      violations.add(new Violation(this.rule, this.module, this.pomFile, offendingElement.element,
+          location.getLine(), location.getColumn(), offendingElement.message, expected, actual));
+    }
+  }
+
+  /**
+   * Writes this report to the given {@link Appendable}. Nested reports, i.e. reports that were added as lines, are
+   * written directly to the appendable without being converted to a string first.
+   *
+   * @param out The appendable.
+   * @throws IOException if writing to the appendable fails.
+   */
+  public void writeTo(Appendable out) throws IOException {
+    writeTitle(out);
+    out.append(LINE_SEPARATOR);
+
+    boolean first = true;
+    for (Object line : this.lines) {
+      if (!first) {
+        out.append(LINE_SEPARATOR);
+      }
+      first = false;
+
+      if (line instanceof ErrorReport) {
+        ((ErrorReport) line).writeTo(out);
+      } else {
+        out.append(String.valueOf(line));
+      }
+    }
+  }
+
+  /**
+   * Writes at most <code>maxLength</code> characters of this report to the given {@link Appendable}. Rendering stops
+   * as soon as the limit is reached and a truncation notice is appended.
+   *
+   * @param out The appendable.
+   * @param maxLength Maximum number of characters to write. Values less than 1 disable the limit.
+   * @throws IOException if writing to the appendable fails.
+   */
+  public void writeTo(Appendable out, int maxLength) throws IOException {
+    if (maxLength < 1) {
+      writeTo(out);
+      return;
+    }
+
+    try {
+      writeTo(new LimitedAppendable(out, maxLength));
+    } catch (LimitReachedException e) {
+      out.append(LINE_SEPARATOR).append("[... report truncated after ").append(String.valueOf(maxLength)).append(" characters]");
+    }
+  }
+
+  /**
+   * Renders this report with a limit on its length.
+   *
+   * @param maxLength Maximum number of characters of the rendered report. Values less than 1 disable the limit.
+   * @return The rendered report.
+   * @see #writeTo(Appendable, int)
+   */
+  public String toString(int maxLength) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      writeTo(sb, maxLength);
+    } catch (IOException e) {
+      // Does not happen with a StringBuilder
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
   @Override
   public String toString() {
-    return LINE_JOINER.join(
-        formatTitle(),
-        LINE_JOINER.join(this.lines));
+    return toString(0);
   }
 
-  private String formatTitle() {
+  private void writeTitle(Appendable out) throws IOException {
     if (this.useLargeTitle) {
       String border = Strings.repeat("#", this.title.length() + 4);
-      return LINE_JOINER.join("", border, "# " + this.title + " #", border, "");
+      out.append(LINE_SEPARATOR)
+          .append(border).append(LINE_SEPARATOR)
+          .append("# ").append(this.title).append(" #").append(LINE_SEPARATOR)
+          .append(border).append(LINE_SEPARATOR);
+    } else {
+      out.append(this.title).append(LINE_SEPARATOR)
+          .append(Strings.repeat("=", this.title.length())).append(LINE_SEPARATOR);
+    }
+  }
+
+  /**
+   * An element that violates the rule of this report.
+   */
+  private static final class OffendingElement {
+
+    private final String element;
+    private final SourceLocation location;
+    private final String message;
+
+    OffendingElement(String element, SourceLocation location, String message) {
+      this.element = element;
+      this.location = location;
+      this.message = message;
+    }
+  }
+
+  /**
+   * Side-by-side diff which is created only when the report is rendered.
+   */
+  private static final class DiffLine {
+
+    private final Collection<String> actual;
+    private final Collection<String> required;
+    private final String leftTitle;
+    private final String rightTitle;
+    private final int maxChanges;
+    private String diff;
+
+    DiffLine(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle, int maxChanges) {
+      this.actual = actual;
+      this.required = required;
+      this.leftTitle = leftTitle;
+      this.rightTitle = rightTitle;
+      this.maxChanges = maxChanges;
+    }
+
+    @Override
+    public synchronized String toString() {
+      if (this.diff == null) {
+        try (Span span = EnforcerEvents.begin(MetricPhase.DIFF, null, null)) {
+          this.diff = SideBySideDiffUtil.diff(this.actual, this.required, this.leftTitle, this.rightTitle, this.maxChanges);
+          span.setElements(Math.max(this.actual.size(), this.required.size()));
+        }
+      }
+      return this.diff;
     }
-    return LINE_JOINER.join("" + this.title, Strings.repeat("=", this.title.length()), "");
   }
 
+  /**
+   * Appendable that aborts rendering with a {@link LimitReachedException} once the limit is reached.
+   */
+  private static final class LimitedAppendable implements Appendable {
+
+    private final Appendable delegate;
+    private int remaining;
+
+    LimitedAppendable(Appendable delegate, int maxLength) {
+      this.delegate = delegate;
+      this.remaining = maxLength;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+      CharSequence sequence = csq != null ? csq : "null";
+      return append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+      CharSequence sequence = csq != null ? csq : "null";
+      int length = end - start;
+      if (length > this.remaining) {
+        this.delegate.append(sequence, start, start + this.remaining);
+        this.remaining = 0;
+        throw new LimitReachedException();
+      }
+
+      this.delegate.append(sequence, start, end);
+      this.remaining -= length;
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+      if (this.remaining == 0) {
+        throw new LimitReachedException();
+      }
+
+      this.delegate.append(c);
+      this.remaining--;
+      return this;
+    }
+  }
+
+  private static final class LimitReachedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    LimitReachedException() {
+      super(null, null, false, false);
+    }
+  }
 }
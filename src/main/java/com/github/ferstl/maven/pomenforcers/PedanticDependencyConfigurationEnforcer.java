@@ -18,6 +18,7 @@ package com.github.ferstl.maven.pomenforcers;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -171,6 +172,7 @@ public class PedanticDependencyConfigurationEnforcer extends AbstractPedanticEnf
     }
 
     if (!versionedDependencies.isEmpty()) {
+      addOffendingDependencies(report, versionedDependencies, "Dependency version has to be declared in <dependencyManagement>");
       report.addLine("Dependency versions have to be declared in <dependencyManagement>:")
           .addLine(toList(versionedDependencies));
     }
@@ -180,11 +182,20 @@ public class PedanticDependencyConfigurationEnforcer extends AbstractPedanticEnf
     Collection<DependencyModel> depsWithExclusions = searchForDependencies(dep -> !dep.getExclusions().isEmpty());
 
     if (!depsWithExclusions.isEmpty()) {
+      addOffendingDependencies(report, depsWithExclusions, "Dependency exclusions have to be declared in <dependencyManagement>");
       report.addLine("Dependency exclusions have to be declared in <dependencyManagement>:")
           .addLine(toList(depsWithExclusions));
     }
   }
 
+  private void addOffendingDependencies(ErrorReport report, Collection<DependencyModel> dependencies, String message) {
+    Map<DependencyModel, Integer> positions = getDeclaredPositions(getProjectModel().getDependencies());
+    for (DependencyModel dependency : dependencies) {
+      int index = positions.get(dependency);
+      report.at("/project/dependencies/dependency", index, getPomStructure().getDependencyLocation(index), message + ": " + dependency);
+    }
+  }
+
   private Collection<DependencyModel> searchForDependencies(Predicate<DependencyModel> predicate) {
     List<DependencyModel> dependencies = getProjectModel().getDependencies();
     return dependencies.stream().filter(predicate).collect(Collectors.toList());
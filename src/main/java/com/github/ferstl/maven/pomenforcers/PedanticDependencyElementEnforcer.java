@@ -18,20 +18,18 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
-import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
 import static com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule.DEPENDENCY_ELEMENT;
 import static com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils.splitAndAddToCollection;
 import static com.google.common.collect.Sets.newLinkedHashSet;
@@ -123,44 +121,29 @@ public class PedanticDependencyElementEnforcer extends AbstractPedanticEnforcer
   @Override
   protected void doEnforce(ErrorReport report) {
     if (this.checkDependencyManagement) {
-      analyzeNodes("dependencyManagement", "/project/dependencyManagement/dependencies/dependency", report);
+      analyzeNodes("dependencyManagement", getPomStructure().getManagedDependencyElements(), getPomStructure()::getManagedDependencyLocation, "/project/dependencyManagement/dependencies/dependency", report);
     }
 
     if (this.checkDependencies) {
-      analyzeNodes("dependencies", "/project/dependencies/dependency", report);
+      analyzeNodes("dependencies", getPomStructure().getDependencyElements(), getPomStructure()::getDependencyLocation, "/project/dependencies/dependency", report);
     }
   }
 
-  private void analyzeNodes(String context, String rootPath, ErrorReport errorReport) {
-    NodeList nodes = XmlUtils.evaluateXPathAsNodeList(rootPath, getPom());
-
+  private void analyzeNodes(String context, List<Map<String, String>> elementMaps, IntFunction<SourceLocation> locations, String elementPath, ErrorReport errorReport) {
     List<Map<String, String>> unorderedNodes = new ArrayList<>();
-    for (int i = 0; i < nodes.getLength(); i++) {
-      Node node = nodes.item(i);
-      NodeList nodeElements = node.getChildNodes();
-
-      Map<String, String> elementMap = createElementMap(nodeElements);
+    for (int i = 0; i < elementMaps.size(); i++) {
+      Map<String, String> elementMap = elementMaps.get(i);
       if (!isOrdered(elementMap.keySet())) {
         unorderedNodes.add(elementMap);
+        String requiredOrder = String.join(", ", this.elementOrdering.immutableSortedCopy(elementMap.keySet()));
+        errorReport.at(elementPath, i, locations.apply(i), "The elements of this dependency have to be declared in this order: " + requiredOrder)
+            .addFix(PomFix.reorder(elementPath, i, PomFix.sortOrder(new ArrayList<>(elementMap.keySet()), this.elementOrdering)));
       }
     }
 
     report(context, errorReport, unorderedNodes);
   }
 
-  private Map<String, String> createElementMap(NodeList elements) {
-    Map<String, String> elementMap = new LinkedHashMap<>();
-    for (int j = 0; j < elements.getLength(); j++) {
-      Node element = elements.item(j);
-
-      if (element instanceof Element) {
-        elementMap.put(element.getNodeName(), element.getTextContent());
-      }
-    }
-
-    return elementMap;
-  }
-
   private boolean isOrdered(Collection<String> keys) {
     return this.elementOrdering.isOrdered(keys);
   }
@@ -17,12 +17,14 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.ArtifactModel;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
 import com.github.ferstl.maven.pomenforcers.model.functions.StringToArtifactTransformer;
 import static com.github.ferstl.maven.pomenforcers.ErrorReport.toList;
 import static com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils.splitAndAddToCollection;
@@ -94,6 +96,11 @@ public class PedanticDependencyManagementLocationEnforcer extends AbstractPedant
   protected void doEnforce(ErrorReport report) {
     MavenProject mavenProject = getMavenProject();
     if (containsDependencyManagement() && !isDependencyManagementAllowed(mavenProject)) {
+      List<DependencyModel> managedDependencies = getProjectModel().getManagedDependencies();
+      for (int i = 0; i < managedDependencies.size(); i++) {
+        report.at("/project/dependencyManagement/dependencies/dependency", i, getPomStructure().getManagedDependencyLocation(i),
+            "This POM is not allowed to manage dependencies: " + managedDependencies.get(i));
+      }
       report.addLine("Only these POMs are allowed to manage dependencies:")
           .addLine(toList(Collections.singletonList("All parent POMs, i.e. POMs with <packaging>pom</packaging>")))
           .addLine(toList(this.dependencyManagingPoms));
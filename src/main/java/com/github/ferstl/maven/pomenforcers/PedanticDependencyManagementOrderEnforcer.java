@@ -24,6 +24,7 @@ import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
 
 
 /**
@@ -43,6 +44,8 @@ import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
  *         &lt;groupIdPriorities&gt;com.myproject,com.mylibs&lt;/groupIdPriorities&gt;
  *         &lt;!-- all artifact IDs starting with commons- and utils- should occur first --&gt;
  *         &lt;artifactIdPriorities&gt;commons-,utils-&lt;/artifactIdPriorities&gt;
+ *         &lt;!-- report a diff between the actual and the required order (default) --&gt;
+ *         &lt;showDiff&gt;true&lt;/showDiff&gt;
  *       &lt;/dependencyManagementOrder&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -83,6 +86,16 @@ public class PedanticDependencyManagementOrderEnforcer extends AbstractPedanticD
     }
   }
 
+  @Override
+  protected SourceLocation getDeclaredLocation(int index) {
+    return getPomStructure().getManagedDependencyLocation(index);
+  }
+
+  @Override
+  protected String getDeclarationPath() {
+    return "/project/dependencyManagement/dependencies";
+  }
+
   @Override
   protected void reportError(ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies) {
 
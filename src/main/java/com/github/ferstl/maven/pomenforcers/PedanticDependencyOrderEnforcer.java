@@ -22,6 +22,7 @@ import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
 
 
 /**
@@ -40,6 +41,8 @@ import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
  *         &lt;groupIdPriorities&gt;com.myproject,com.mylibs&lt;/groupIdPriorities&gt;
  *         &lt;!-- all artifact IDs starting with commons- and utils- should occur first --&gt;
  *         &lt;artifactIdPriorities&gt;commons-,utils-&lt;/artifactIdPriorities&gt;
+ *         &lt;!-- report a diff between the actual and the required order (default) --&gt;
+ *         &lt;showDiff&gt;true&lt;/showDiff&gt;
  *       &lt;/dependencyOrder&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -75,6 +78,16 @@ public class PedanticDependencyOrderEnforcer extends AbstractPedanticDependencyO
     return project.getDependencies();
   }
 
+  @Override
+  protected SourceLocation getDeclaredLocation(int index) {
+    return getPomStructure().getDependencyLocation(index);
+  }
+
+  @Override
+  protected String getDeclarationPath() {
+    return "/project/dependencies";
+  }
+
   @Override
   protected void reportError(ErrorReport report, Collection<DependencyModel> resolvedDependencies, Collection<DependencyModel> sortedDependencies) {
 
@@ -15,7 +15,11 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import javax.inject.Inject;
@@ -24,9 +28,12 @@ import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.ArtifactModel;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
+import com.github.ferstl.maven.pomenforcers.model.PomSection;
 import com.github.ferstl.maven.pomenforcers.model.functions.StringToArtifactTransformer;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
+import com.github.ferstl.maven.pomenforcers.util.PropertyInterpolator;
 import com.google.common.base.Joiner;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
@@ -152,6 +159,7 @@ public class PedanticDependencyScopeEnforcer extends AbstractPedanticEnforcer {
   @Override
   protected void doEnforce(ErrorReport report) {
     Collection<Dependency> dependencies = getMavenProject().getDependencies();
+    Map<List<String>, Integer> declaredPositions = null;
 
     for (Dependency dependency : dependencies) {
       ArtifactModel artifactModel = new ArtifactModel(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
@@ -163,11 +171,50 @@ public class PedanticDependencyScopeEnforcer extends AbstractPedanticEnforcer {
           .collect(toSet());
 
       if (!allowedScopes.isEmpty() && !allowedScopes.contains(dependencyScope)) {
-        report.formatLine("Allowed Scopes for %s: %s", dependency, Joiner.on(", ").join(allowedScopes));
+        if (declaredPositions == null) {
+          declaredPositions = getDeclaredPositions();
+        }
+        String message = String.format("Allowed Scopes for %s: %s", dependency, Joiner.on(", ").join(allowedScopes));
+        addOffendingDependency(report, dependency, declaredPositions, message);
+        report.addLine(message);
       }
     }
   }
 
+  private Map<List<String>, Integer> getDeclaredPositions() {
+    PropertyInterpolator interpolator = getInterpolator();
+    List<DependencyModel> declaredDependencies = getProjectModel().getDependencies();
+
+    Map<List<String>, Integer> positions = new HashMap<>();
+    for (int i = 0; i < declaredDependencies.size(); i++) {
+      DependencyModel declaredDependency = declaredDependencies.get(i);
+      positions.putIfAbsent(createKey(
+          interpolator.interpolate(declaredDependency.getGroupId()),
+          interpolator.interpolate(declaredDependency.getArtifactId()),
+          interpolator.interpolate(declaredDependency.getType()),
+          interpolator.interpolate(declaredDependency.getClassifier())), i);
+    }
+    return positions;
+  }
+
+  private void addOffendingDependency(
+      ErrorReport report, Dependency dependency, Map<List<String>, Integer> declaredPositions, String message) {
+    Integer position = declaredPositions.get(
+        createKey(dependency.getGroupId(), dependency.getArtifactId(), dependency.getType(), dependency.getClassifier()));
+
+    if (position != null) {
+      report.at("/project/dependencies/dependency", position, getPomStructure().getDependencyLocation(position), message);
+    } else {
+      // Inherited dependencies are not declared in this POM
+      report.at("/project/dependencies", -1, getPomStructure().getSectionLocation(PomSection.DEPENDENCIES), message);
+    }
+  }
+
+  private static List<String> createKey(String groupId, String artifactId, String type, String classifier) {
+    // groupId:artifactId:type:classifier, null-safe
+    return Arrays.asList(groupId, artifactId, type, classifier);
+  }
+
   private Set<ArtifactModel> createDependencyInfo(String dependencies) {
     Set<ArtifactModel> dependencyInfoSet = Sets.newHashSet();
     CommaSeparatorUtils.splitAndAddToCollection(dependencies, dependencyInfoSet, StringToArtifactTransformer::toArtifactModel);
@@ -23,6 +23,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
@@ -97,7 +98,43 @@ public class PedanticModuleOrderEnforcer extends AbstractPedanticEnforcer {
     // Enforce the module order
     Ordering<String> moduleOrdering = Ordering.natural();
     if (!moduleOrdering.isOrdered(declaredModules)) {
-      reportError(report, declaredModules, moduleOrdering.immutableSortedCopy(declaredModules));
+      List<String> orderedModules = moduleOrdering.immutableSortedCopy(declaredModules);
+      addModuleLocations(report, getProjectModel().getModules(), orderedModules);
+      reportError(report, declaredModules, orderedModules);
+      report.addFix(PomFix.reorder("/project/modules", 0, createFixOrder(getProjectModel().getModules(), moduleOrdering)));
+    }
+  }
+
+  private int[] createFixOrder(List<String> modules, Ordering<String> moduleOrdering) {
+    // Ignored modules keep their positions. All other modules are sorted into the remaining positions.
+    List<Integer> positions = new ArrayList<>();
+    List<String> sortableModules = new ArrayList<>();
+    for (int i = 0; i < modules.size(); i++) {
+      if (!this.ignoredModules.contains(modules.get(i))) {
+        positions.add(i);
+        sortableModules.add(modules.get(i));
+      }
+    }
+
+    int[] sortOrder = PomFix.sortOrder(sortableModules, moduleOrdering);
+    int[] order = new int[modules.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    for (int i = 0; i < sortOrder.length; i++) {
+      order[positions.get(i)] = positions.get(sortOrder[i]);
+    }
+    return order;
+  }
+
+  private void addModuleLocations(ErrorReport report, List<String> modules, List<String> orderedModules) {
+    // Locations of all misplaced modules within all (including the ignored) modules
+    int orderedIndex = 0;
+    for (int i = 0; i < modules.size(); i++) {
+      String module = modules.get(i);
+      if (!this.ignoredModules.contains(module) && !module.equals(orderedModules.get(orderedIndex++))) {
+        report.at("/project/modules/module", i, getPomStructure().getModuleLocation(i), "Module " + module + " is out of order");
+      }
     }
   }
 
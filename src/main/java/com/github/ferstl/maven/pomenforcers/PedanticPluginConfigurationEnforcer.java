@@ -18,6 +18,7 @@ package com.github.ferstl.maven.pomenforcers;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -196,6 +197,7 @@ public class PedanticPluginConfigurationEnforcer extends AbstractPedanticEnforce
     }
 
     if (!versionedPlugins.isEmpty()) {
+      addOffendingPlugins(report, versionedPlugins, "Plugin version has to be declared in <pluginManagement>");
       report.addLine("Plugin versions have to be declared in <pluginManagement>:")
           .addLine(toList(versionedPlugins));
     }
@@ -205,6 +207,7 @@ public class PedanticPluginConfigurationEnforcer extends AbstractPedanticEnforce
   private void enforceManagedConfiguration(ErrorReport report) {
     Collection<PluginModel> configuredPlugins = searchForPlugins(PluginModel::isConfigured);
     if (!configuredPlugins.isEmpty()) {
+      addOffendingPlugins(report, configuredPlugins, "Use <pluginManagement> to configure this plugin or configure it for a specific <execution>");
       report.addLine("Use <pluginManagement> to configure these plugins or configure them for a specific <execution>:")
           .addLine(toList(configuredPlugins));
     }
@@ -213,11 +216,20 @@ public class PedanticPluginConfigurationEnforcer extends AbstractPedanticEnforce
   private void enforceManagedDependencies(ErrorReport report) {
     Collection<PluginModel> pluginsWithDependencies = searchForPlugins(plugin -> !plugin.getDependencies().isEmpty());
     if (!pluginsWithDependencies.isEmpty()) {
+      addOffendingPlugins(report, pluginsWithDependencies, "Use <pluginManagement> to configure plugin dependencies");
       report.addLine("Use <pluginManagement> to configure plugin dependencies:")
           .addLine(toList(pluginsWithDependencies));
     }
   }
 
+  private void addOffendingPlugins(ErrorReport report, Collection<PluginModel> plugins, String message) {
+    Map<PluginModel, Integer> positions = getDeclaredPositions(getProjectModel().getPlugins());
+    for (PluginModel plugin : plugins) {
+      int index = positions.get(plugin);
+      report.at("/project/build/plugins/plugin", index, getPomStructure().getPluginLocation(index), message + ": " + plugin);
+    }
+  }
+
   private Collection<PluginModel> searchForPlugins(Predicate<PluginModel> predicate) {
     List<PluginModel> plugins = getProjectModel().getPlugins();
     return plugins.stream().filter(predicate).collect(Collectors.toList());
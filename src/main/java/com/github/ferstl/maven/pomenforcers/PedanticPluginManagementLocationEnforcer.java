@@ -17,12 +17,14 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.ArtifactModel;
+import com.github.ferstl.maven.pomenforcers.model.PluginModel;
 import com.github.ferstl.maven.pomenforcers.model.functions.StringToArtifactTransformer;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import static com.github.ferstl.maven.pomenforcers.ErrorReport.toList;
@@ -70,6 +72,11 @@ public class PedanticPluginManagementLocationEnforcer extends AbstractPedanticEn
   protected void doEnforce(ErrorReport report) {
     MavenProject mavenProject = getMavenProject();
     if (containsPluginManagement() && !isPluginManagementAllowed(mavenProject)) {
+      List<PluginModel> managedPlugins = getProjectModel().getManagedPlugins();
+      for (int i = 0; i < managedPlugins.size(); i++) {
+        report.at("/project/build/pluginManagement/plugins/plugin", i, getPomStructure().getManagedPluginLocation(i),
+            "This POM is not allowed to manage plugins: " + managedPlugins.get(i));
+      }
       report.addLine("Only these POMs are allowed to manage plugins:")
           .addLine(toList(Collections.singletonList("All parent POMs, i.e. POMs with <packaging>pom</packaging>")))
           .addLine(toList(this.pluginManagingPoms));
@@ -17,21 +17,28 @@ package com.github.ferstl.maven.pomenforcers;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
 import com.github.ferstl.maven.pomenforcers.model.PluginElement;
 import com.github.ferstl.maven.pomenforcers.model.PluginModel;
 import com.github.ferstl.maven.pomenforcers.model.functions.PluginMatcher;
 import com.github.ferstl.maven.pomenforcers.priority.CompoundPriorityOrdering;
+import com.github.ferstl.maven.pomenforcers.priority.OrderViolation;
+import com.github.ferstl.maven.pomenforcers.priority.SortKeys;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.Sets;
 import static com.github.ferstl.maven.pomenforcers.model.PluginElement.ARTIFACT_ID;
 import static com.github.ferstl.maven.pomenforcers.model.PluginElement.GROUP_ID;
+import static java.util.stream.Collectors.toList;
 
 
 /**
@@ -48,6 +55,8 @@ import static com.github.ferstl.maven.pomenforcers.model.PluginElement.GROUP_ID;
  *         &lt;groupIdPriorities&gt;com.myproject.plugins,com.myproject.testplugins&lt;/groupIdPriorities&gt;
  *         &lt;!-- all artifact IDs starting with mytest and myintegrationtest should occur first --&gt;
  *         &lt;artifactIdPriorities&gt;mytest-,myintegrationtest-&lt;/artifactIdPriorities&gt;
+ *         &lt;!-- report a diff between the actual and the required order (default) --&gt;
+ *         &lt;showDiff&gt;true&lt;/showDiff&gt;
  *       &lt;/pluginManagementOrder&gt;
  *     &lt;/rules&gt;
  * </pre>
@@ -60,6 +69,8 @@ public class PedanticPluginManagementOrderEnforcer extends AbstractPedanticEnfor
 
   private final CompoundPriorityOrdering<PluginModel, String, PluginElement> pluginOrdering;
 
+  private boolean showDiff = true;
+
   @Inject
   public PedanticPluginManagementOrderEnforcer(final MavenProject project, final ExpressionEvaluator helper) {
     super(project, helper);
@@ -114,6 +125,19 @@ public class PedanticPluginManagementOrderEnforcer extends AbstractPedanticEnfor
     this.pluginOrdering.setPriorities(PluginElement.ARTIFACT_ID, artifactIdPriorities);
   }
 
+  /**
+   * If set to <code>false</code>, only the plugins that are out of order are reported instead of a diff between
+   * the actual and the required order.
+   *
+   * @param showDiff Whether to report the diff between the actual and the required order.
+   * @configParam
+   * @default true
+   * @since 2.4.0
+   */
+  public void setShowDiff(boolean showDiff) {
+    this.showDiff = showDiff;
+  }
+
   @Override
   protected PedanticEnforcerRule getDescription() {
     return PedanticEnforcerRule.PLUGIN_MANAGEMENT_ORDER;
@@ -130,19 +154,52 @@ public class PedanticPluginManagementOrderEnforcer extends AbstractPedanticEnfor
 
     Collection<PluginModel> declaredManagedPlugins = getProjectModel().getManagedPlugins();
     Collection<Plugin> managedPlugins = project.getPluginManagement().getPlugins();
-    BiMap<PluginModel, PluginModel> matchedPlugins = matchPlugins(declaredManagedPlugins, managedPlugins);
+    BiMap<PluginModel, PluginModel> matchedPlugins =
+        measure(MetricPhase.MATCH, () -> matchPlugins(declaredManagedPlugins, managedPlugins), Map::size);
 
     Set<PluginModel> resolvedPlugins = matchedPlugins.keySet();
-    if (!this.pluginOrdering.isOrdered(resolvedPlugins)) {
-      Collection<PluginModel> sortedPlugins = this.pluginOrdering.immutableSortedCopy(resolvedPlugins);
+    SortKeys<PluginModel> sortKeys =
+        measure(MetricPhase.ORDER, () -> this.pluginOrdering.sortKeys(resolvedPlugins), SortKeys::size);
+    List<OrderViolation<PluginModel>> violations = sortKeys.getViolations();
+    if (violations.isEmpty()) {
+      return;
+    }
 
+    Map<PluginModel, Integer> positions = getDeclaredPositions(declaredManagedPlugins);
+    for (OrderViolation<PluginModel> violation : violations) {
+      Integer position = positions.get(matchedPlugins.get(violation.getElement()));
+      int index = position != null ? position : -1;
+      report.at("/project/build/pluginManagement/plugins/plugin", index, getPomStructure().getManagedPluginLocation(index),
+          violation.toString());
+    }
+
+    if (!this.showDiff) {
+      report.addLine("These plugins are out of order:")
+          .emptyLine()
+          .addOrderViolations(violations);
+      if (!isFix()) {
+        return;
+      }
+    }
+
+    List<PluginModel> sortedPlugins = sortKeys.sortedCopy();
+    if (this.showDiff) {
       report.addLine("Your plugin management has to be ordered this way:")
           .emptyLine()
           .addDiffUsingToString(resolvedPlugins, sortedPlugins, "Actual Order", "Required Order");
     }
+
+    // The POM can only be fixed if all declared plugins were resolved
+    if (isFix()) {
+      List<PluginModel> requiredOrder = sortedPlugins.stream().map(matchedPlugins::get).collect(toList());
+      int[] order = getDeclaredOrder(declaredManagedPlugins, requiredOrder);
+      if (order != null) {
+        report.addFix(PomFix.reorder("/project/build/pluginManagement/plugins", 0, order));
+      }
+    }
   }
 
   private BiMap<PluginModel, PluginModel> matchPlugins(Collection<PluginModel> subset, Collection<Plugin> superset) {
-    return new PluginMatcher(getHelper()).match(superset, subset);
+    return new PluginMatcher(getInterpolator()).match(superset, subset);
   }
 }
@@ -15,7 +15,6 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -24,8 +23,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import com.github.ferstl.maven.pomenforcers.fix.PomFix;
 import com.github.ferstl.maven.pomenforcers.model.PomSection;
 import com.github.ferstl.maven.pomenforcers.priority.PriorityOrdering;
 import com.github.ferstl.maven.pomenforcers.util.CommaSeparatorUtils;
@@ -88,21 +86,20 @@ public class PedanticPomSectionOrderEnforcer extends AbstractPedanticEnforcer {
 
   @Override
   protected void doEnforce(ErrorReport report) {
-    Node docElement = getPom().getDocumentElement();
-    NodeList sectionNodes = docElement.getChildNodes();
-    ArrayList<PomSection> pomSections = new ArrayList<>();
-    for (int i = 0; i < sectionNodes.getLength(); i++) {
-      Node node = sectionNodes.item(i);
-      if (node.getNodeType() == Node.ELEMENT_NODE) {
-        pomSections.add(PomSection.getBySectionName(node.getNodeName()));
-      }
-    }
+    List<PomSection> pomSections = getPomStructure().getSections();
 
     // The default ordering is the order of the PomSection enum.
     Ordering<PomSection> ordering = createPriorityOrdering(this.sectionPriorities);
 
     if (!ordering.isOrdered(pomSections)) {
       List<PomSection> sortedPomSections = ordering.immutableSortedCopy(pomSections);
+      for (int i = 0; i < pomSections.size(); i++) {
+        if (pomSections.get(i) != sortedPomSections.get(i)) {
+          report.at("/project/" + pomSections.get(i).getSectionName(), -1, getPomStructure().getSectionLocation(i),
+              "Section <" + pomSections.get(i).getSectionName() + "> is out of order");
+        }
+      }
+      report.addFix(PomFix.reorder("/project", 0, PomFix.sortOrder(pomSections, ordering)));
 
       report.addLine("Your POM has to be organized this way:")
           .emptyLine()
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.github.ferstl.maven.pomenforcers.model.PomReader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+/**
+ * Cache for parsed POM files. The cache is shared between all enforcer rule instances and executions that are running
+ * within the same class realm, i.e. within the same Maven session. Entries are looked up by the canonical path, the
+ * modification time and the size of the POM file, so a cache hit neither reads nor hashes the file. If the
+ * modification time or the size has changed, the file is read again and parsed only if its content hash differs from
+ * the cached one.
+ * <p>
+ * File systems with coarse timestamps may not change the modification time if a file is written again shortly after
+ * it was loaded. Therefore, the content hash is also compared if the modification time of the cached entry was too
+ * close to the time when the entry was verified.
+ * </p>
+ */
+final class PomCache {
+
+  private static final int MAXIMUM_SIZE = 256;
+  /**
+   * Granularity of file modification times that is assumed for all file systems (e.g. FAT uses 2 seconds).
+   */
+  private static final long MODIFICATION_TIME_GRANULARITY_MILLIS = 2000;
+  private static final PomCache INSTANCE = new PomCache(MAXIMUM_SIZE);
+
+  private final Cache<String, Entry> cache;
+
+  static PomCache getInstance() {
+    return INSTANCE;
+  }
+
+  PomCache(int maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+  }
+
+  /**
+   * Returns the parsed representations of the given POM file. The POM file is only parsed if there is no cached
+   * entry for its current content.
+   *
+   * @param pomFile The POM file.
+   * @return The parsed POM.
+   */
+  ParsedPom load(File pomFile) {
+    if (!pomFile.exists()) {
+      throw new IllegalArgumentException("File " + pomFile + " does not exist.");
+    }
+
+    try {
+      File canonicalFile = pomFile.getCanonicalFile();
+      String canonicalPath = canonicalFile.getPath();
+      long lastModified = canonicalFile.lastModified();
+      long size = canonicalFile.length();
+
+      Entry entry = this.cache.getIfPresent(canonicalPath);
+      if (isUpToDate(entry, lastModified, size)) {
+        return entry.parsedPom;
+      }
+
+      byte[] content = Files.readAllBytes(canonicalFile.toPath());
+      String contentHash = Hashing.sha256().hashBytes(content).toString();
+      ParsedPom parsedPom = entry != null && entry.parsedPom.getContentHash().equals(contentHash)
+          ? entry.parsedPom
+          : parse(pomFile, content, contentHash);
+
+      // A file that is modified while it is read gets a new modification time and is read again on the next load
+      this.cache.put(canonicalPath, new Entry(lastModified, content.length, System.currentTimeMillis(), parsedPom));
+      return parsedPom;
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read POM file " + pomFile, e);
+    }
+  }
+
+  /**
+   * Returns the content hash of the given POM file. The hash of the cached entry is returned if the file has not
+   * changed. Otherwise, the file is read and hashed, but neither parsed nor cached.
+   *
+   * @param pomFile The POM file.
+   * @return The content hash.
+   */
+  String getContentHash(File pomFile) {
+    try {
+      File canonicalFile = pomFile.getCanonicalFile();
+      Entry entry = this.cache.getIfPresent(canonicalFile.getPath());
+      if (isUpToDate(entry, canonicalFile.lastModified(), canonicalFile.length())) {
+        return entry.parsedPom.getContentHash();
+      }
+
+      return Hashing.sha256().hashBytes(Files.readAllBytes(canonicalFile.toPath())).toString();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read POM file " + pomFile, e);
+    }
+  }
+
+  private static boolean isUpToDate(Entry entry, long lastModified, long size) {
+    return entry != null && entry.lastModified == lastModified && entry.size == size && !entry.isRacy();
+  }
+
+  private static ParsedPom parse(File pomFile, byte[] content, String contentHash) {
+    try {
+      return PomReader.read(content, contentHash);
+    } catch (RuntimeException e) {
+      throw new IllegalStateException("Unable to parse POM file " + pomFile, e);
+    }
+  }
+
+  /**
+   * Removes the cached entry of the given POM file, e.g. after the file was rewritten.
+   *
+   * @param pomFile The POM file.
+   */
+  void invalidate(File pomFile) {
+    try {
+      this.cache.invalidate(pomFile.getCanonicalPath());
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to resolve POM file " + pomFile, e);
+    }
+  }
+
+  long size() {
+    return this.cache.size();
+  }
+
+  private static final class Entry {
+
+    private final long lastModified;
+    private final long size;
+    private final long verified;
+    private final ParsedPom parsedPom;
+
+    Entry(long lastModified, long size, long verified, ParsedPom parsedPom) {
+      this.lastModified = lastModified;
+      this.size = size;
+      this.verified = verified;
+      this.parsedPom = parsedPom;
+    }
+
+    /**
+     * Whether the file might have been modified again without changing its modification time.
+     */
+    boolean isRacy() {
+      return this.verified - this.lastModified < MODIFICATION_TIME_GRANULARITY_MILLIS;
+    }
+  }
+}
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import com.github.ferstl.maven.pomenforcers.report.ReportFormat;
+import com.github.ferstl.maven.pomenforcers.report.Violation;
+import com.github.ferstl.maven.pomenforcers.report.ViolationWriter;
+import com.github.ferstl.maven.pomenforcers.util.LocalExpressionEvaluator;
+import com.google.common.base.Joiner;
+
+/**
+ * Runs the pedantic enforcer rules on POM files without a Maven session, e.g. in pre-commit hooks or to check all POM
+ * files of a large repository at once. Each POM file is read as it is, i.e. without building the effective model.
+ * Properties are resolved from the POM file itself and its parent POMs, as far as they can be found via their
+ * relative path.
+ * <p>
+ * The rules are executed by a {@link CompoundPedanticEnforcer} and are configured with the same parameters. The POM
+ * files are checked in parallel.
+ * <pre>
+ * ### Example
+ *     java -cp &lt;pedantic-pom-enforcers and maven-core with its dependencies&gt; \
+ *         com.github.ferstl.maven.pomenforcers.PomLinter \
+ *         --enforcers=POM_SECTION_ORDER,DEPENDENCY_ORDER \
+ *         --dependenciesOrderBy=scope,groupId,artifactId \
+ *         --format=sarif \
+ *         path/to/repository
+ * </pre>
+ *
+ * @since 2.4.0
+ */
+public final class PomLinter {
+
+  private static final String POM_FILE_NAME = "pom.xml";
+  private static final String DEFAULT_PARENT_PATH = "../" + POM_FILE_NAME;
+  private static final String USAGE = ""
+      + "Usage: PomLinter [options] <POM file or directory>...%n"
+      + "  --enforcers=<rules>    Comma separated list of rules (default: all rules)%n"
+      + "  --threads=<count>      Number of POM files that are checked in parallel (default: number of processors)%n"
+      + "  --format=<format>      Output format: text, jsonl, sarif or junit (default: text)%n"
+      + "  --fix                  Rewrite the POM files into the required order%n"
+      + "  --<parameter>=<value>  Any parameter of the compound enforcer, e.g. --dependenciesOrderBy=groupId,artifactId%n";
+
+  private static final int EXIT_OK = 0;
+  private static final int EXIT_VIOLATIONS = 1;
+  private static final int EXIT_USAGE = 2;
+
+  private final Map<String, String> configuration = new LinkedHashMap<>();
+  private int threads;
+
+  public static void main(String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /**
+   * Sets a configuration parameter of the {@link CompoundPedanticEnforcer} that executes the rules. Values may contain
+   * properties, which are resolved for each POM file.
+   *
+   * @param name Name of the parameter, e.g. <code>enforcers</code>.
+   * @param value Value of the parameter.
+   * @return This linter.
+   */
+  public PomLinter configure(String name, String value) {
+    findParameter(name);
+    this.configuration.put(name, value);
+    return this;
+  }
+
+  /**
+   * Number of POM files that are checked in parallel.
+   *
+   * @param threads Number of threads. Values less than 1 use the number of available processors.
+   * @return This linter.
+   */
+  public PomLinter threads(int threads) {
+    this.threads = threads;
+    return this;
+  }
+
+  /**
+   * Checks the given POM files.
+   *
+   * @param pomFiles The POM files.
+   * @return The report of each POM file in the given order.
+   */
+  public Map<File, ErrorReport> lint(Collection<File> pomFiles) {
+    Map<File, Model> models = new ConcurrentHashMap<>();
+    int threadCount = this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+
+    ForkJoinPool pool = new ForkJoinPool(threadCount);
+    try {
+      Map<File, ForkJoinTask<ErrorReport>> results = new LinkedHashMap<>();
+      for (File pomFile : pomFiles) {
+        results.put(pomFile, pool.submit(() -> lint(pomFile, models)));
+      }
+
+      Map<File, ErrorReport> reports = new LinkedHashMap<>();
+      for (Entry<File, ForkJoinTask<ErrorReport>> entry : results.entrySet()) {
+        reports.put(entry.getKey(), entry.getValue().join());
+      }
+      return reports;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Searches POM files. Directories are searched recursively for files named <code>pom.xml</code>. Hidden directories
+   * and <code>target</code> directories are skipped.
+   *
+   * @param paths POM files or directories.
+   * @return The POM files in the order they were found.
+   */
+  public static List<File> findPomFiles(Collection<File> paths) {
+    List<File> pomFiles = new ArrayList<>();
+    for (File path : paths) {
+      if (path.isDirectory()) {
+        pomFiles.addAll(searchPomFiles(path.toPath()));
+      } else {
+        pomFiles.add(path);
+      }
+    }
+    return pomFiles;
+  }
+
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    PomLinter linter = new PomLinter();
+    List<File> paths = new ArrayList<>();
+    String format = "text";
+
+    try {
+      for (String arg : args) {
+        if (!arg.startsWith("--")) {
+          paths.add(new File(arg));
+          continue;
+        }
+
+        int separator = arg.indexOf('=');
+        String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+        String value = separator < 0 ? "true" : arg.substring(separator + 1);
+        if ("format".equals(name)) {
+          format = value;
+        } else if ("threads".equals(name)) {
+          linter.threads(Integer.parseInt(value));
+        } else {
+          linter.configure(name, value);
+        }
+      }
+
+      if (paths.isEmpty()) {
+        throw new IllegalArgumentException("No POM files or directories specified");
+      }
+      if (!"text".equals(format)) {
+        ReportFormat.getByName(format);
+      }
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.printf(USAGE);
+      return EXIT_USAGE;
+    }
+
+    Map<File, ErrorReport> reports = linter.lint(findPomFiles(paths));
+    List<ErrorReport> errors = reports.values().stream().filter(ErrorReport::hasErrors).collect(Collectors.toList());
+
+    try {
+      if ("text".equals(format)) {
+        printText(errors, reports.size(), out);
+      } else {
+        writeViolations(errors, ReportFormat.getByName(format), out);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return errors.isEmpty() ? EXIT_OK : EXIT_VIOLATIONS;
+  }
+
+  private ErrorReport lint(File pomFile, Map<File, Model> models) {
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND).forModule(null, pomFile);
+    try {
+      Model model = readModel(pomFile).clone();
+      List<Model> lineage = getLineage(pomFile, model, models);
+      LocalExpressionEvaluator evaluator = new LocalExpressionEvaluator(lineage, pomFile.getAbsoluteFile().getParentFile());
+      MavenProject project = createProject(pomFile, model, evaluator);
+
+      CompoundPedanticEnforcer enforcer = createEnforcer(project, evaluator);
+      enforcer.initialize(PomCache.getInstance().load(pomFile));
+      report.forModule(project.getGroupId() + ":" + project.getArtifactId(), pomFile);
+      enforcer.doEnforce(report);
+    } catch (RuntimeException e) {
+      report.addLine("Unable to check " + pomFile + ": " + e.getMessage());
+    }
+    return report;
+  }
+
+  private CompoundPedanticEnforcer createEnforcer(MavenProject project, LocalExpressionEvaluator evaluator) {
+    CompoundPedanticEnforcer enforcer = new CompoundPedanticEnforcer(project, evaluator);
+    if (!this.configuration.containsKey("enforcers")) {
+      enforcer.setEnforcers(Arrays.stream(PedanticEnforcerRule.values())
+          .filter(rule -> rule != PedanticEnforcerRule.COMPOUND)
+          .map(PedanticEnforcerRule::name)
+          .collect(Collectors.joining(",")));
+    }
+
+    for (Entry<String, String> entry : this.configuration.entrySet()) {
+      Object value = evaluator.evaluate(entry.getValue());
+      setParameter(enforcer, entry.getKey(), String.valueOf(value));
+    }
+    return enforcer;
+  }
+
+  private static MavenProject createProject(File pomFile, Model model, LocalExpressionEvaluator evaluator) {
+    // The effective model resolves the coordinates of all artifacts. The declared artifacts are matched against them.
+    for (Dependency dependency : model.getDependencies()) {
+      interpolate(dependency, evaluator);
+    }
+    if (model.getDependencyManagement() != null) {
+      for (Dependency dependency : model.getDependencyManagement().getDependencies()) {
+        interpolate(dependency, evaluator);
+      }
+    }
+
+    // The effective model always contains the plugin management of the super POM
+    if (model.getBuild() == null) {
+      model.setBuild(new Build());
+    }
+    if (model.getBuild().getPluginManagement() == null) {
+      model.getBuild().setPluginManagement(new PluginManagement());
+    }
+    for (Plugin plugin : model.getBuild().getPlugins()) {
+      interpolate(plugin, evaluator);
+    }
+    for (Plugin plugin : model.getBuild().getPluginManagement().getPlugins()) {
+      interpolate(plugin, evaluator);
+    }
+
+    MavenProject project = new MavenProject(model);
+    project.setFile(pomFile.getAbsoluteFile());
+    return project;
+  }
+
+  private static void interpolate(Dependency dependency, LocalExpressionEvaluator evaluator) {
+    dependency.setGroupId(interpolate(dependency.getGroupId(), evaluator));
+    dependency.setArtifactId(interpolate(dependency.getArtifactId(), evaluator));
+    dependency.setVersion(interpolate(dependency.getVersion(), evaluator));
+    dependency.setType(interpolate(dependency.getType(), evaluator));
+    dependency.setClassifier(interpolate(dependency.getClassifier(), evaluator));
+    dependency.setScope(interpolate(dependency.getScope(), evaluator));
+  }
+
+  private static void interpolate(Plugin plugin, LocalExpressionEvaluator evaluator) {
+    plugin.setGroupId(interpolate(plugin.getGroupId(), evaluator));
+    plugin.setArtifactId(interpolate(plugin.getArtifactId(), evaluator));
+    plugin.setVersion(interpolate(plugin.getVersion(), evaluator));
+  }
+
+  private static String interpolate(String value, LocalExpressionEvaluator evaluator) {
+    return (String) evaluator.evaluate(value);
+  }
+
+  /**
+   * Returns the model of the given POM followed by the models of its parents that can be found in the file system.
+   */
+  private static List<Model> getLineage(File pomFile, Model model, Map<File, Model> models) {
+    List<Model> lineage = new ArrayList<>();
+    lineage.add(model);
+
+    File currentFile = pomFile.getAbsoluteFile();
+    Model current = model;
+    while (current.getParent() != null) {
+      File parentFile = getParentFile(currentFile, current.getParent());
+      if (parentFile == null) {
+        break;
+      }
+
+      Model parentModel = models.computeIfAbsent(parentFile, PomLinter::readModel);
+      if (!isParent(current.getParent(), parentModel) || lineage.contains(parentModel)) {
+        break;
+      }
+
+      lineage.add(parentModel);
+      currentFile = parentFile;
+      current = parentModel;
+    }
+
+    return lineage;
+  }
+
+  private static File getParentFile(File pomFile, Parent parent) {
+    String relativePath = parent.getRelativePath() != null ? parent.getRelativePath() : DEFAULT_PARENT_PATH;
+    if (relativePath.isEmpty()) {
+      return null;
+    }
+
+    File parentFile = new File(pomFile.getParentFile(), relativePath);
+    if (parentFile.isDirectory()) {
+      parentFile = new File(parentFile, POM_FILE_NAME);
+    }
+
+    try {
+      return parentFile.isFile() ? parentFile.getCanonicalFile() : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static boolean isParent(Parent parent, Model parentModel) {
+    String groupId = parentModel.getGroupId() != null || parentModel.getParent() == null
+        ? parentModel.getGroupId()
+        : parentModel.getParent().getGroupId();
+    return parent.getArtifactId().equals(parentModel.getArtifactId()) && parent.getGroupId().equals(groupId);
+  }
+
+  private static Model readModel(File pomFile) {
+    try (Reader reader = Files.newBufferedReader(pomFile.toPath(), StandardCharsets.UTF_8)) {
+      return new MavenXpp3Reader().read(reader, false);
+    } catch (IOException | XmlPullParserException e) {
+      throw new IllegalStateException("Unable to read POM file " + pomFile, e);
+    }
+  }
+
+  private static List<File> searchPomFiles(Path directory) {
+    List<File> pomFiles = new ArrayList<>();
+    try {
+      Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+          String name = String.valueOf(dir.getFileName());
+          boolean skip = !dir.equals(directory) && (name.startsWith(".") || "target".equals(name));
+          return skip ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+          if (POM_FILE_NAME.equals(String.valueOf(file.getFileName()))) {
+            pomFiles.add(file.toFile());
+          }
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    // Make the order independent of the file system
+    pomFiles.sort(null);
+    return pomFiles;
+  }
+
+  private static void printText(List<ErrorReport> errors, int pomCount, PrintStream out) throws IOException {
+    for (ErrorReport report : errors) {
+      report.writeTo(out);
+      out.println();
+      out.println();
+    }
+    out.printf("Checked %d POM file(s), %d with violations.%n", pomCount, errors.size());
+  }
+
+  private static void writeViolations(List<ErrorReport> errors, ReportFormat format, PrintStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    try (ViolationWriter violationWriter = format.createWriter(writer)) {
+      for (ErrorReport report : errors) {
+        for (Violation violation : report.getViolations()) {
+          violationWriter.write(violation);
+        }
+      }
+    }
+    writer.flush();
+  }
+
+  private static void setParameter(CompoundPedanticEnforcer enforcer, String name, String value) {
+    Object parameter = findParameter(name);
+    try {
+      if (parameter instanceof Method) {
+        ((Method) parameter).invoke(enforcer, convert(value, ((Method) parameter).getParameterTypes()[0]));
+      } else {
+        Field field = (Field) parameter;
+        field.setAccessible(true);
+        field.set(enforcer, convert(value, field.getType()));
+      }
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Unable to set parameter " + name, e);
+    }
+  }
+
+  /**
+   * Returns the setter or, if there is no setter, the field of the given parameter.
+   */
+  private static Object findParameter(String name) {
+    String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    for (Method method : CompoundPedanticEnforcer.class.getMethods()) {
+      if (method.getName().equals(setterName) && method.getParameterCount() == 1 && isSupported(method.getParameterTypes()[0])) {
+        return method;
+      }
+    }
+
+    for (Class<?> type = CompoundPedanticEnforcer.class; type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (field.getName().equals(name) && isSupported(field.getType())) {
+          return field;
+        }
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown parameter: " + name);
+  }
+
+  private static boolean isSupported(Class<?> type) {
+    return type == String.class || type == boolean.class || type == Boolean.class || type == int.class
+        || type == Integer.class || type == File.class;
+  }
+
+  private static Object convert(String value, Class<?> type) {
+    if (type == boolean.class || type == Boolean.class) {
+      return Boolean.valueOf(value);
+    } else if (type == int.class || type == Integer.class) {
+      return Integer.valueOf(value);
+    } else if (type == File.class) {
+      return new File(value);
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "PomLinter " + Joiner.on(", ").withKeyValueSeparator("=").join(this.configuration);
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.Collection;
+import java.util.List;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.apache.maven.project.MavenProject;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Persistent cache for successful enforcer results. Each successful result is recorded as an empty marker file whose
+ * name is the hash of everything the result depends on:
+ * <ul>
+ * <li>the raw content of the POM file</li>
+ * <li>the effective coordinates, dependencies, plugins and modules of the {@link MavenProject}</li>
+ * <li>the fingerprint of the enforcer configuration</li>
+ * <li>the version of the enforcer rules themselves</li>
+ * </ul>
+ * Failed results are never cached, so errors are always reported.
+ */
+final class ResultCache {
+
+  /**
+   * Name of the cache directory within the build directory of a project.
+   */
+  static final String DIRECTORY_NAME = "pedantic-pom-enforcers";
+
+  private static final String RULES_VERSION = determineRulesVersion();
+
+  private final Path directory;
+
+  ResultCache(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Creates the result cache within the build directory of the given project.
+   *
+   * @param project The Maven project.
+   * @return The result cache.
+   */
+  static ResultCache forProject(MavenProject project) {
+    return new ResultCache(Paths.get(project.getBuild().getDirectory(), DIRECTORY_NAME));
+  }
+
+  /**
+   * Creates the cache key for the given project.
+   *
+   * @param parsedPom The parsed POM of the project.
+   * @param project The Maven project.
+   * @param configurationFingerprint Fingerprint of the enforcer configuration.
+   * @return The cache key.
+   */
+  static String createKey(ParsedPom parsedPom, MavenProject project, String configurationFingerprint) {
+    String contentHash = parsedPom.getContentHash();
+    if (contentHash == null) {
+      throw new IllegalArgumentException("POM without content hash cannot be cached");
+    }
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, RULES_VERSION);
+    putString(hasher, configurationFingerprint);
+    putString(hasher, contentHash);
+    putString(hasher, project.getGroupId());
+    putString(hasher, project.getArtifactId());
+    putString(hasher, project.getVersion());
+    putString(hasher, project.getPackaging());
+    putStrings(hasher, project.getModules());
+
+    putDependencies(hasher, project.getDependencies());
+    DependencyManagement dependencyManagement = project.getDependencyManagement();
+    putDependencies(hasher, dependencyManagement != null ? dependencyManagement.getDependencies() : null);
+
+    putPlugins(hasher, project.getBuildPlugins());
+    PluginManagement pluginManagement = project.getPluginManagement();
+    putPlugins(hasher, pluginManagement != null ? pluginManagement.getPlugins() : null);
+
+    return hasher.hash().toString();
+  }
+
+  boolean contains(String key) {
+    return Files.exists(this.directory.resolve(key));
+  }
+
+  void put(String key) {
+    try {
+      Files.createDirectories(this.directory);
+      Files.createFile(this.directory.resolve(key));
+    } catch (FileAlreadyExistsException e) {
+      // Recorded concurrently
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write result cache in " + this.directory, e);
+    }
+  }
+
+  private static void putDependencies(Hasher hasher, List<Dependency> dependencies) {
+    if (dependencies == null) {
+      hasher.putInt(-1);
+      return;
+    }
+
+    hasher.putInt(dependencies.size());
+    for (Dependency dependency : dependencies) {
+      putString(hasher, dependency.getManagementKey());
+      putString(hasher, dependency.getVersion());
+      putString(hasher, dependency.getScope());
+      putString(hasher, dependency.getOptional());
+      putString(hasher, dependency.getSystemPath());
+
+      hasher.putInt(dependency.getExclusions().size());
+      for (Exclusion exclusion : dependency.getExclusions()) {
+        putString(hasher, exclusion.getGroupId());
+        putString(hasher, exclusion.getArtifactId());
+      }
+    }
+  }
+
+  private static void putPlugins(Hasher hasher, List<Plugin> plugins) {
+    if (plugins == null) {
+      hasher.putInt(-1);
+      return;
+    }
+
+    hasher.putInt(plugins.size());
+    for (Plugin plugin : plugins) {
+      putString(hasher, plugin.getGroupId());
+      putString(hasher, plugin.getArtifactId());
+      putString(hasher, plugin.getVersion());
+      hasher.putBoolean(plugin.getConfiguration() != null);
+      putDependencies(hasher, plugin.getDependencies());
+    }
+  }
+
+  private static void putStrings(Hasher hasher, Collection<String> values) {
+    if (values == null) {
+      hasher.putInt(-1);
+      return;
+    }
+
+    hasher.putInt(values.size());
+    for (String value : values) {
+      putString(hasher, value);
+    }
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    // Length prefix to distinguish ["ab", "c"] from ["a", "bc"] and null from "null"
+    if (value == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static String determineRulesVersion() {
+    // The location and the modification time of the rules' JAR file
+    CodeSource codeSource = ResultCache.class.getProtectionDomain().getCodeSource();
+    if (codeSource == null || codeSource.getLocation() == null) {
+      return "unknown";
+    }
+
+    try {
+      Path location = Paths.get(codeSource.getLocation().toURI());
+      return location + "@" + Files.getLastModifiedTime(location).toMillis();
+    } catch (URISyntaxException | IOException | RuntimeException e) {
+      return codeSource.getLocation().toString();
+    }
+  }
+}
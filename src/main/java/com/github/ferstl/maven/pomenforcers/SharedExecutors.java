@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Bounded executors that are shared between all enforcer rule executions within the same class realm. In a
+ * multi-threaded reactor build (<code>-T</code>), all modules submit their work to the same executor, so the number of
+ * tasks running enforcer rules at the same time never exceeds the configured number of threads.
+ * <p>
+ * On Java 21 and later, each task runs in a virtual thread and a semaphore limits the number of running tasks. On
+ * older Java versions, the tasks run in a fixed pool of platform threads whose idle threads are terminated after a
+ * short time.
+ * </p>
+ */
+final class SharedExecutors {
+
+  private static final long KEEP_ALIVE_SECONDS = 10;
+  private static final ConcurrentMap<Integer, ExecutorService> EXECUTORS = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the shared executor with the given number of threads.
+   *
+   * @param threads Number of threads.
+   * @return The shared executor.
+   */
+  static ExecutorService get(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+    }
+
+    return EXECUTORS.computeIfAbsent(threads, SharedExecutors::createExecutor);
+  }
+
+  private static ExecutorService createExecutor(int threads) {
+    ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+    if (virtualThreadExecutor != null) {
+      return new BoundedExecutor(virtualThreadExecutor, threads);
+    }
+
+    ThreadFactory threadFactory = new ThreadFactoryBuilder()
+        .setNameFormat("pedantic-enforcer-" + threads + "-%d")
+        .setDaemon(true)
+        .build();
+
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+
+    return executor;
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for each task.
+   *
+   * @return The executor or {@code null} if virtual threads are not available in this JVM.
+   */
+  static ExecutorService createVirtualThreadExecutor() {
+    try {
+      Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factoryMethod.invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Java 20 and older. Virtual threads are either missing or a preview feature that is not enabled.
+      return null;
+    }
+  }
+
+  /**
+   * Executor that runs at most a fixed number of tasks of its delegate at the same time. Waiting tasks block their
+   * (virtual) thread until a permit becomes available.
+   */
+  static final class BoundedExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    BoundedExecutor(ExecutorService delegate, int maxRunningTasks) {
+      this.delegate = delegate;
+      this.permits = new Semaphore(maxRunningTasks);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      this.delegate.execute(() -> {
+        this.permits.acquireUninterruptibly();
+        try {
+          command.run();
+        } finally {
+          this.permits.release();
+        }
+      });
+    }
+
+    @Override
+    public void shutdown() {
+      this.delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return this.delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return this.delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return this.delegate.awaitTermination(timeout, unit);
+    }
+  }
+
+  private SharedExecutors() {
+  }
+}
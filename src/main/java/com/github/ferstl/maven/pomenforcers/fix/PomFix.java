@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.fix;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import com.google.common.base.Splitter;
+
+/**
+ * Fix for a POM element whose child elements are in the wrong order. The element is identified by its absolute path,
+ * e.g. <code>/project/dependencies</code>, and by its occurrence in the POM file. The new order of the children is
+ * described by a permutation: The child at position <code>i</code> of the fixed element is the child at position
+ * <code>order[i]</code> of the original element.
+ */
+public final class PomFix {
+
+  private static final Splitter PATH_SPLITTER = Splitter.on('/').omitEmptyStrings();
+
+  private final List<String> path;
+  private final int occurrence;
+  private final int[] order;
+
+  private PomFix(String path, int occurrence, int[] order) {
+    this.path = PATH_SPLITTER.splitToList(path);
+    this.occurrence = occurrence;
+    this.order = order.clone();
+
+    if (this.path.isEmpty()) {
+      throw new IllegalArgumentException("Invalid path: " + path);
+    }
+    if (!isPermutation(this.order)) {
+      throw new IllegalArgumentException("Invalid order " + Arrays.toString(order));
+    }
+  }
+
+  /**
+   * Creates a fix that reorders the children of an element.
+   *
+   * @param path Absolute path of the element, e.g. <code>/project/dependencies</code>.
+   * @param occurrence Zero-based occurrence of the element in document order.
+   * @param order The new order of the children.
+   * @return The fix.
+   */
+  public static PomFix reorder(String path, int occurrence, int[] order) {
+    return new PomFix(path, occurrence, order);
+  }
+
+  /**
+   * Creates the permutation that sorts the given items. Equal items keep their relative order.
+   *
+   * @param items The items in their current order.
+   * @param comparator Comparator that defines the required order.
+   * @param <T> Type of the items.
+   * @return The permutation that sorts the items.
+   */
+  public static <T> int[] sortOrder(List<? extends T> items, Comparator<? super T> comparator) {
+    Integer[] indices = new Integer[items.size()];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = i;
+    }
+
+    // Arrays.sort() is stable for objects
+    Arrays.sort(indices, (i1, i2) -> comparator.compare(items.get(i1), items.get(i2)));
+
+    int[] order = new int[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      order[i] = indices[i];
+    }
+    return order;
+  }
+
+  List<String> getPath() {
+    return this.path;
+  }
+
+  int getOccurrence() {
+    return this.occurrence;
+  }
+
+  int[] getOrder() {
+    return this.order;
+  }
+
+  /**
+   * Returns the depth of the element, i.e. the number of its path segments.
+   *
+   * @return The depth of the element.
+   */
+  public int getDepth() {
+    return this.path.size();
+  }
+
+  private static boolean isPermutation(int[] order) {
+    boolean[] seen = new boolean[order.length];
+    for (int index : order) {
+      if (index < 0 || index >= order.length || seen[index]) {
+        return false;
+      }
+      seen[index] = true;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "/" + String.join("/", this.path) + "[" + this.occurrence + "]: " + Arrays.toString(this.order);
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.fix;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies {@link PomFix}es to the raw content of a POM file. The content is not parsed into a model. Instead, the
+ * fixed elements are located with a lightweight scanner and only the character ranges of their children are moved.
+ * Everything else, i.e. comments, whitespace, the XML declaration and the formatting of the elements, is kept as it is.
+ * <p>
+ * Each child element is moved together with the comments and whitespace in front of it and with the remainder of the
+ * line on which it ends, so comments stay attached to the element they describe. The whitespace in front of the end tag
+ * of the fixed element stays where it is.
+ */
+public final class PomRewriter {
+
+  private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+  private static final Pattern ENCODING_PATTERN = Pattern.compile("^<\\?xml[^>]*encoding\\s*=\\s*[\"']([^\"']+)[\"']");
+  private static final int DECLARATION_LENGTH = 256;
+
+  private final Charset charset;
+  private final boolean bom;
+  private String content;
+
+  /**
+   * Constructor.
+   *
+   * @param content The raw content of the POM file.
+   */
+  public PomRewriter(byte[] content) {
+    this.bom = startsWithBom(content);
+    this.charset = this.bom ? StandardCharsets.UTF_8 : detectCharset(content);
+
+    int offset = this.bom ? UTF8_BOM.length : 0;
+    this.content = new String(content, offset, content.length - offset, this.charset);
+  }
+
+  /**
+   * Applies the given fix.
+   *
+   * @param fix The fix.
+   * @return <code>true</code> if the fix was applied, <code>false</code> if the element does not exist or if the
+   * number of its children does not match the fix.
+   */
+  public boolean apply(PomFix fix) {
+    Element element = new Scanner(this.content).find(fix.getPath(), fix.getOccurrence());
+    if (element == null || element.children.size() != fix.getOrder().length) {
+      return false;
+    }
+
+    this.content = reorder(element, fix.getOrder());
+    return true;
+  }
+
+  /**
+   * Returns the current content in the encoding of the original content.
+   *
+   * @return The current content.
+   */
+  public byte[] getContent() {
+    byte[] encoded = this.content.getBytes(this.charset);
+    if (!this.bom) {
+      return encoded;
+    }
+
+    byte[] withBom = Arrays.copyOf(UTF8_BOM, UTF8_BOM.length + encoded.length);
+    System.arraycopy(encoded, 0, withBom, UTF8_BOM.length, encoded.length);
+    return withBom;
+  }
+
+  @Override
+  public String toString() {
+    return this.content;
+  }
+
+  private String reorder(Element element, int[] order) {
+    int childCount = element.children.size();
+
+    // Split the content of the element into one chunk per child and the remainder in front of the end tag
+    String[] chunks = new String[childCount];
+    int chunkStart = element.contentStart;
+    for (int i = 0; i < childCount; i++) {
+      int[] child = element.children.get(i);
+      int gapEnd = i + 1 < childCount ? element.children.get(i + 1)[0] : element.contentEnd;
+      int chunkEnd = endOfLine(child[1], gapEnd);
+
+      chunks[i] = this.content.substring(chunkStart, chunkEnd);
+      chunkStart = chunkEnd;
+    }
+
+    StringBuilder sb = new StringBuilder(this.content.length());
+    sb.append(this.content, 0, element.contentStart);
+    for (int index : order) {
+      sb.append(chunks[index]);
+    }
+    sb.append(this.content, chunkStart, this.content.length());
+
+    return sb.toString();
+  }
+
+  /**
+   * Returns the end of the line that starts at <code>start</code> if there is a line break before <code>limit</code>.
+   * Otherwise, <code>start</code> is returned.
+   */
+  private int endOfLine(int start, int limit) {
+    for (int i = start; i < limit; i++) {
+      char c = this.content.charAt(i);
+      if (c == '\n' || c == '\r') {
+        return i;
+      }
+    }
+    return start;
+  }
+
+  private static boolean startsWithBom(byte[] content) {
+    return content.length >= UTF8_BOM.length
+        && content[0] == UTF8_BOM[0]
+        && content[1] == UTF8_BOM[1]
+        && content[2] == UTF8_BOM[2];
+  }
+
+  private static Charset detectCharset(byte[] content) {
+    String declaration = new String(content, 0, Math.min(content.length, DECLARATION_LENGTH), StandardCharsets.ISO_8859_1);
+    Matcher matcher = ENCODING_PATTERN.matcher(declaration);
+    if (matcher.find()) {
+      try {
+        return Charset.forName(matcher.group(1));
+      } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+        throw new IllegalArgumentException("Unsupported encoding: " + matcher.group(1), e);
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Location of an element in the content.
+   */
+  private static final class Element {
+
+    /** Offset after the start tag. */
+    int contentStart;
+    /** Offset of the end tag. */
+    int contentEnd;
+    /** Start and end offsets of the child elements. */
+    final List<int[]> children = new ArrayList<>();
+  }
+
+  /**
+   * Minimal XML scanner which tracks the path of the current element. It understands comments, CDATA sections,
+   * processing instructions, document type declarations and quoted attribute values.
+   */
+  private static final class Scanner {
+
+    private final String content;
+    private final List<String> path = new ArrayList<>();
+
+    Scanner(String content) {
+      this.content = content;
+    }
+
+    Element find(List<String> elementPath, int occurrence) {
+      int targetDepth = elementPath.size();
+      int matches = 0;
+      Element element = null;
+      int i = 0;
+
+      while (i < this.content.length()) {
+        int tagStart = this.content.indexOf('<', i);
+        if (tagStart < 0) {
+          break;
+        }
+
+        if (this.content.startsWith("<!--", tagStart)) {
+          i = skipTo("-->", tagStart + 4);
+        } else if (this.content.startsWith("<![CDATA[", tagStart)) {
+          i = skipTo("]]>", tagStart + 9);
+        } else if (this.content.startsWith("<?", tagStart)) {
+          i = skipTo("?>", tagStart + 2);
+        } else if (this.content.startsWith("<!", tagStart)) {
+          i = skipDeclaration(tagStart + 2);
+        } else if (this.content.startsWith("</", tagStart)) {
+          i = skipTo(">", tagStart + 2);
+          int depth = this.path.size();
+
+          if (element != null) {
+            if (depth == targetDepth + 1) {
+              element.children.get(element.children.size() - 1)[1] = i;
+            } else if (depth == targetDepth) {
+              element.contentEnd = tagStart;
+              return element;
+            }
+          }
+
+          if (depth > 0) {
+            this.path.remove(depth - 1);
+          }
+        } else {
+          int tagEnd = findTagEnd(tagStart + 1);
+          boolean emptyElement = this.content.charAt(tagEnd - 2) == '/';
+          this.path.add(readName(tagStart + 1));
+          int depth = this.path.size();
+
+          if (element != null) {
+            if (depth == targetDepth + 1) {
+              element.children.add(new int[]{tagStart, emptyElement ? tagEnd : -1});
+            }
+          } else if (depth == targetDepth && this.path.equals(elementPath) && matches++ == occurrence) {
+            if (emptyElement) {
+              return null;
+            }
+            element = new Element();
+            element.contentStart = tagEnd;
+          }
+
+          if (emptyElement) {
+            this.path.remove(depth - 1);
+          }
+          i = tagEnd;
+        }
+      }
+
+      return null;
+    }
+
+    private int skipTo(String terminator, int from) {
+      int end = this.content.indexOf(terminator, from);
+      if (end < 0) {
+        throw new IllegalArgumentException("Unterminated markup, expected '" + terminator + "'");
+      }
+      return end + terminator.length();
+    }
+
+    private int skipDeclaration(int from) {
+      // Document type declarations may contain an internal subset in square brackets
+      int nesting = 0;
+      for (int i = from; i < this.content.length(); i++) {
+        char c = this.content.charAt(i);
+        if (c == '[') {
+          nesting++;
+        } else if (c == ']') {
+          nesting--;
+        } else if (c == '>' && nesting <= 0) {
+          return i + 1;
+        }
+      }
+      throw new IllegalArgumentException("Unterminated declaration");
+    }
+
+    private int findTagEnd(int from) {
+      char quote = 0;
+      for (int i = from; i < this.content.length(); i++) {
+        char c = this.content.charAt(i);
+        if (quote != 0) {
+          if (c == quote) {
+            quote = 0;
+          }
+        } else if (c == '"' || c == '\'') {
+          quote = c;
+        } else if (c == '>') {
+          return i + 1;
+        }
+      }
+      throw new IllegalArgumentException("Unterminated start tag");
+    }
+
+    private String readName(int from) {
+      int end = from;
+      while (end < this.content.length()) {
+        char c = this.content.charAt(end);
+        if (Character.isWhitespace(c) || c == '/' || c == '>') {
+          break;
+        }
+        end++;
+      }
+
+      // Ignore namespace prefixes
+      String name = this.content.substring(from, end);
+      int colon = name.indexOf(':');
+      return colon < 0 ? name : name.substring(colon + 1);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.jfr;
+
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
+
+/**
+ * Emits Java Flight Recorder events for the phases of an enforcer rule execution. The events are only created if the
+ * JVM supports JFR and a recording with these events is running. Otherwise a no-op span is returned and the overhead
+ * is a single check. Start a recording for example with <code>MAVEN_OPTS="-XX:StartFlightRecording=filename=build.jfr"</code>
+ * and look for the event type <em>Pedantic Enforcer Phase</em> in JDK Mission Control.
+ */
+public final class EnforcerEvents {
+
+  private static final boolean AVAILABLE = isAvailable();
+
+  /**
+   * Starts an event for the given phase.
+   *
+   * @param phase The phase.
+   * @param module Coordinates (<code>groupId:artifactId</code>) of the module. May be {@code null}.
+   * @param rule The rule. May be {@code null}.
+   * @return A span that must be closed at the end of the phase.
+   */
+  public static Span begin(MetricPhase phase, String module, PedanticEnforcerRule rule) {
+    return AVAILABLE ? JfrSpan.begin(phase, module, rule) : Span.NOOP;
+  }
+
+  private static boolean isAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, EnforcerEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  private EnforcerEvents() {
+  }
+
+  /**
+   * A running event. The number of processed elements may be set before the span is closed.
+   */
+  public interface Span extends AutoCloseable {
+
+    Span NOOP = new Span() {
+      @Override
+      public void setElements(int elements) {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    void setElements(int elements);
+
+    @Override
+    void close();
+  }
+
+  /**
+   * Span of a {@link PhaseEvent}. This class is only loaded if JFR is available.
+   */
+  private static final class JfrSpan implements Span {
+
+    private final PhaseEvent event;
+
+    private JfrSpan(PhaseEvent event) {
+      this.event = event;
+    }
+
+    static Span begin(MetricPhase phase, String module, PedanticEnforcerRule rule) {
+      PhaseEvent event = new PhaseEvent();
+      if (!event.isEnabled()) {
+        return NOOP;
+      }
+
+      event.module = module;
+      event.rule = rule != null ? rule.name() : null;
+      event.phase = phase.name();
+      event.begin();
+      return new JfrSpan(event);
+    }
+
+    @Override
+    public void setElements(int elements) {
+      this.event.elements = elements;
+    }
+
+    @Override
+    public void close() {
+      this.event.end();
+      if (this.event.shouldCommit()) {
+        this.event.commit();
+      }
+    }
+  }
+}
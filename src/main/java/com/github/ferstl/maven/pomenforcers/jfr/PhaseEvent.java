@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a single phase of an enforcer rule execution. Phases without a module or rule, such as
+ * {@link com.github.ferstl.maven.pomenforcers.report.MetricPhase#BIND BIND} or
+ * {@link com.github.ferstl.maven.pomenforcers.report.MetricPhase#DIFF DIFF}, can be attributed to a module by the
+ * enclosing event in the same thread.
+ */
+@Name("com.github.ferstl.maven.pomenforcers.Phase")
+@Label("Pedantic Enforcer Phase")
+@Category({"Maven", "Pedantic POM Enforcers"})
+@Description("Execution of an enforcement phase")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+
+  @Label("Module")
+  @Description("Coordinates (groupId:artifactId) of the module")
+  String module;
+
+  @Label("Rule")
+  String rule;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Elements")
+  @Description("Number of processed elements, e.g. dependencies, plugins or diff lines")
+  int elements;
+}
@@ -16,10 +16,17 @@
 package com.github.ferstl.maven.pomenforcers.model;
 
 import java.util.Objects;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlElement;
 import com.google.common.base.Joiner;
 import static com.google.common.base.Objects.equal;
 
+/**
+ * Coordinates of an artifact. The coordinates are taken from the {@link CoordinatePool}. Models that are bound by JAXB
+ * are compacted right after unmarshalling: The coordinates are pooled, collections are replaced by immutable copies
+ * and the hash code is computed only once. This keeps the heap footprint small when the same artifacts are declared in
+ * many modules and makes the models safe to share between rules and threads.
+ */
 public class ArtifactModel {
 
   private static final Joiner TO_STRING_JOINER = Joiner.on(":").useForNull("");
@@ -33,6 +40,8 @@ public class ArtifactModel {
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
   private String version;
 
+  private transient int hashCode;
+
   ArtifactModel() {
   }
 
@@ -41,16 +50,31 @@ public class ArtifactModel {
     determineWildcardMode(groupId);
     determineWildcardMode(artifactId);
 
-    this.groupId = groupId;
-    this.artifactId = artifactId;
-    this.version = version;
-
+    this.groupId = CoordinatePool.intern(groupId);
+    this.artifactId = CoordinatePool.intern(artifactId);
+    this.version = CoordinatePool.intern(version);
   }
 
   public ArtifactModel(String groupId, String artifactId) {
     this(groupId, artifactId, null);
   }
 
+  /**
+   * JAXB callback which compacts the model after it was unmarshalled.
+   */
+  void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    compact();
+  }
+
+  /**
+   * Pools the coordinates of this model. Subclasses compact their own fields and call this method.
+   */
+  void compact() {
+    this.groupId = CoordinatePool.intern(this.groupId);
+    this.artifactId = CoordinatePool.intern(this.artifactId);
+    this.version = CoordinatePool.intern(this.version);
+  }
+
   public String getGroupId() {
     return this.groupId;
   }
@@ -100,7 +124,17 @@ public class ArtifactModel {
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.groupId, this.artifactId);
+    // The model is not modified after construction or unmarshalling
+    int result = this.hashCode;
+    if (result == 0) {
+      result = computeHashCode();
+      this.hashCode = result;
+    }
+    return result;
+  }
+
+  int computeHashCode() {
+    return 31 * Objects.hashCode(this.groupId) + Objects.hashCode(this.artifactId);
   }
 
   private static WildcardMode determineWildcardMode(String string) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Pool for artifact coordinates, i.e. group IDs, artifact IDs, versions, types and classifiers. The pool is shared by
+ * all models that are loaded by the same class loader. This way each coordinate is kept only once, no matter in how
+ * many modules it is declared, and equal coordinates are usually identical, so comparing them ends with the identity
+ * check.
+ * <p>
+ * The pool lives as long as the plugin's class realm, which may span several Maven sessions, e.g. in the Maven daemon
+ * (mvnd) or in embedded Maven. Since the pooled strings are weakly referenced, they are garbage-collected once no
+ * model of any session uses them anymore, so the pool does not retain coordinates of previous sessions.
+ * </p>
+ */
+public final class CoordinatePool {
+
+  private static final Interner<String> POOL = Interners.newWeakInterner();
+
+  /**
+   * Returns the pooled instance of the given coordinate.
+   *
+   * @param coordinate The coordinate. May be {@code null}.
+   * @return The pooled instance, which is equal to the given coordinate, or {@code null}.
+   */
+  public static String intern(String coordinate) {
+    return coordinate != null ? POOL.intern(coordinate) : null;
+  }
+
+  private CoordinatePool() {
+  }
+}
@@ -15,12 +15,13 @@
  */
 package com.github.ferstl.maven.pomenforcers.model;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlElement;
+import com.google.common.collect.ImmutableList;
 
 class DependenciesModel {
 
@@ -32,10 +33,15 @@ class DependenciesModel {
   }
 
   public DependenciesModel(Collection<DependencyModel> dependencies) {
-    this.dependencies = new ArrayList<>();
-    this.dependencies.addAll(dependencies);
+    this.dependencies = ImmutableList.copyOf(dependencies);
   }
 
+  // JAXB callback
+  void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    if (this.dependencies != null) {
+      this.dependencies = ImmutableList.copyOf(this.dependencies);
+    }
+  }
 
   public List<DependencyModel> getDependencies() {
     return this.dependencies != null ? this.dependencies : Collections.emptyList();
@@ -16,7 +16,6 @@
 package com.github.ferstl.maven.pomenforcers.model;
 
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import javax.xml.bind.annotation.XmlElement;
@@ -24,6 +23,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import static com.google.common.base.Objects.equal;
 
 @XmlRootElement(name = "dependency")
@@ -54,8 +54,17 @@ public class DependencyModel extends ArtifactModel {
 
     super(groupId, artifactId, version);
     this.scope = scope != null ? DependencyScope.getByScopeName(scope) : null;
-    this.classifier = classifier;
-    this.type = type;
+    this.classifier = CoordinatePool.intern(classifier);
+    this.type = CoordinatePool.intern(type);
+    this.exclusions = ImmutableList.of();
+  }
+
+  @Override
+  void compact() {
+    super.compact();
+    this.classifier = CoordinatePool.intern(this.classifier);
+    this.type = CoordinatePool.intern(this.type);
+    this.exclusions = this.exclusions != null ? ImmutableList.copyOf(this.exclusions) : ImmutableList.of();
   }
 
   public DependencyScope getScope() {
@@ -71,7 +80,7 @@ public class DependencyModel extends ArtifactModel {
   }
 
   public List<ArtifactModel> getExclusions() {
-    return this.exclusions != null ? this.exclusions : Collections.emptyList();
+    return this.exclusions != null ? this.exclusions : ImmutableList.of();
   }
 
   @Override
@@ -98,12 +107,15 @@ public class DependencyModel extends ArtifactModel {
         && equal(this.classifier, other.classifier)
         && equal(this.type, other.type)
         && equal(this.scope, other.scope)
-        && equal(this.exclusions, other.exclusions);
+        && getExclusions().equals(other.getExclusions());
   }
 
   @Override
-  public int hashCode() {
-    return Objects.hash(super.hashCode(), this.classifier, this.type, this.scope);
+  int computeHashCode() {
+    int result = super.computeHashCode();
+    result = 31 * result + Objects.hashCode(this.classifier);
+    result = 31 * result + Objects.hashCode(this.type);
+    return 31 * result + Objects.hashCode(this.scope);
   }
 
 }
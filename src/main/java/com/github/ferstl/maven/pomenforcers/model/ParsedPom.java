@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.Objects;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+
+/**
+ * The parsed representations of a single POM file. Instances may be shared between several enforcer rules and must
+ * therefore be treated as read-only. The XML {@link Document} is only created on demand.
+ */
+public final class ParsedPom {
+
+  private final byte[] content;
+  private final String contentHash;
+  private final ProjectModel projectModel;
+  private PomStructure structure;
+  private Document document;
+
+  ParsedPom(byte[] content, String contentHash, PomStructure structure, ProjectModel projectModel) {
+    this.content = Objects.requireNonNull(content);
+    this.contentHash = Objects.requireNonNull(contentHash);
+    this.structure = Objects.requireNonNull(structure);
+    this.projectModel = Objects.requireNonNull(projectModel);
+  }
+
+  private ParsedPom(Document document, ProjectModel projectModel) {
+    this.content = null;
+    this.contentHash = null;
+    this.document = Objects.requireNonNull(document);
+    this.projectModel = Objects.requireNonNull(projectModel);
+  }
+
+  /**
+   * Creates a parsed POM from an already existing XML {@link Document}. The {@link PomStructure} will be extracted
+   * from the document when it is accessed for the first time.
+   *
+   * @param document The POM document.
+   * @param projectModel The project model.
+   * @return The parsed POM.
+   */
+  public static ParsedPom fromDocument(Document document, ProjectModel projectModel) {
+    return new ParsedPom(document, projectModel);
+  }
+
+  /**
+   * Returns the hash of the raw POM content this instance was created from.
+   *
+   * @return Hex-encoded content hash or {@code null} if this instance was created from a {@link Document}.
+   */
+  public String getContentHash() {
+    return this.contentHash;
+  }
+
+  /**
+   * Returns a copy of the raw POM content this instance was created from.
+   *
+   * @return The raw POM content or {@code null} if this instance was created from a {@link Document}.
+   */
+  public byte[] getContent() {
+    return this.content != null ? this.content.clone() : null;
+  }
+
+  public synchronized Document getDocument() {
+    if (this.document == null) {
+      this.document = XmlUtils.parseXml(this.content);
+    }
+    return this.document;
+  }
+
+  public synchronized PomStructure getStructure() {
+    if (this.structure == null) {
+      this.structure = PomStructure.fromDocument(this.document);
+    }
+    return this.structure;
+  }
+
+  public ProjectModel getProjectModel() {
+    return this.projectModel;
+  }
+}
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import org.w3c.dom.Element;
+import com.google.common.collect.ImmutableList;
 
 public class PluginModel extends ArtifactModel {
 
@@ -39,6 +40,14 @@ public class PluginModel extends ArtifactModel {
     super(groupId, artifactId, version);
   }
 
+  @Override
+  void compact() {
+    super.compact();
+    if (this.configItems != null) {
+      this.configItems = ImmutableList.copyOf(this.configItems);
+    }
+  }
+
   public boolean isConfigured() {
     return this.configItems != null && !this.configItems.isEmpty();
   }
@@ -64,7 +73,7 @@ public class PluginModel extends ArtifactModel {
   }
 
   @Override
-  public int hashCode() {
-    return Objects.hash(super.hashCode(), this.configItems, this.dependencies);
+  int computeHashCode() {
+    return 31 * (31 * super.computeHashCode() + Objects.hashCode(this.configItems)) + Objects.hashCode(this.dependencies);
   }
 }
@@ -18,7 +18,9 @@ package com.github.ferstl.maven.pomenforcers.model;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlElement;
+import com.google.common.collect.ImmutableList;
 
 class PluginsModel {
 
@@ -28,6 +30,13 @@ class PluginsModel {
   public PluginsModel() {
   }
 
+  // JAXB callback
+  void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    if (this.plugins != null) {
+      this.plugins = ImmutableList.copyOf(this.plugins);
+    }
+  }
+
   public List<PluginModel> getPlugins() {
     return this.plugins != null ? this.plugins : Collections.emptyList();
   }
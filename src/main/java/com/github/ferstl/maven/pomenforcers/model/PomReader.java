@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.Location;
+import javax.xml.stream.util.StreamReaderDelegate;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents.Span;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
+import com.github.ferstl.maven.pomenforcers.report.RuleMetrics;
+import com.google.common.primitives.ImmutableLongArray;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Reads a POM file in a single pass. The {@link ProjectModel} is bound by JAXB directly from a StAX stream while the
+ * stream events are observed in order to collect the {@link PomStructure}, including the {@link SourceLocation}s of the
+ * relevant elements. No DOM is created in this process.
+ */
+public final class PomReader {
+
+  private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+  /**
+   * Reads the given POM content.
+   *
+   * @param content The raw POM content.
+   * @param contentHash Hash of the raw POM content.
+   * @return The parsed POM.
+   */
+  public static ParsedPom read(byte[] content, String contentHash) {
+    XMLStreamReader reader = null;
+    try {
+      reader = INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(content));
+      StructureCollector collector = new StructureCollector(reader);
+
+      ProjectModel projectModel;
+      try (Span span = EnforcerEvents.begin(MetricPhase.BIND, null, null)) {
+        projectModel = RuleMetrics.measureNested(MetricPhase.BIND, () -> ProjectModelLoader.load(collector));
+        span.setElements(projectModel.getArtifactCount());
+      }
+
+      return new ParsedPom(content, contentHash, collector.createStructure(), projectModel);
+    } catch (XMLStreamException e) {
+      throw new IllegalStateException("Unable to read POM", e);
+    } finally {
+      close(reader);
+    }
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        // NOP
+      }
+    }
+  }
+
+  private PomReader() {
+  }
+
+  /**
+   * Observes the events that are pulled by JAXB and collects the POM structure.
+   */
+  private static class StructureCollector extends StreamReaderDelegate {
+
+    private static final int SECTION_DEPTH = 2;
+    private static final int MODULE_DEPTH = 3;
+
+    private final List<String> path = new ArrayList<>();
+    private final List<String> sectionNames = new ArrayList<>();
+    private final Map<String, List<Map<String, String>>> elementMaps = new LinkedHashMap<>();
+    private final Map<String, ImmutableLongArray.Builder> locations = new LinkedHashMap<>();
+
+    private Map<String, String> currentElementMap;
+    private int previousEvent = XMLStreamConstants.START_DOCUMENT;
+    private int startLine;
+    private int startColumn;
+    private int currentElementDepth;
+    private String currentChildName;
+    private StringBuilder currentChildText;
+
+    StructureCollector(XMLStreamReader reader) {
+      super(reader);
+      this.elementMaps.put(PomStructure.MANAGED_DEPENDENCIES_PATH, new ArrayList<>());
+      this.elementMaps.put(PomStructure.DEPENDENCIES_PATH, new ArrayList<>());
+      this.elementMaps.put(PomStructure.MANAGED_PLUGINS_PATH, new ArrayList<>());
+      this.elementMaps.put(PomStructure.PLUGINS_PATH, new ArrayList<>());
+
+      for (String path : this.elementMaps.keySet()) {
+        this.locations.put(path, ImmutableLongArray.builder());
+      }
+      this.locations.put(PomStructure.MODULES_PATH, ImmutableLongArray.builder());
+      this.locations.put(PomStructure.SECTIONS_PATH, ImmutableLongArray.builder());
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+      // The parser reports the location at the end of the current event, which is where the next event starts. Text is
+      // terminated by the '<' of the next tag, which has already been consumed at the end of the text.
+      Location location = getLocation();
+      boolean afterText = this.previousEvent == XMLStreamConstants.CHARACTERS || this.previousEvent == XMLStreamConstants.SPACE;
+      this.startLine = location.getLineNumber();
+      this.startColumn = afterText ? location.getColumnNumber() - 1 : location.getColumnNumber();
+
+      int event = super.next();
+      this.previousEvent = event;
+
+      switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+          startElement(getLocalName());
+          break;
+
+        case XMLStreamConstants.END_ELEMENT:
+          endElement();
+          break;
+
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (this.currentChildText != null) {
+            this.currentChildText.append(getTextCharacters(), getTextStart(), getTextLength());
+          }
+          break;
+
+        default: // NOP
+      }
+
+      return event;
+    }
+
+    // Make sure that all events pass through next()
+    @Override
+    public int nextTag() throws XMLStreamException {
+      int event = next();
+      while (event == XMLStreamConstants.SPACE
+          || event == XMLStreamConstants.COMMENT
+          || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+          || ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) && isWhiteSpace())) {
+        event = next();
+      }
+
+      if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+        throw new XMLStreamException("Expected start or end tag", getLocation());
+      }
+      return event;
+    }
+
+    // Make sure that all events pass through next()
+    @Override
+    public String getElementText() throws XMLStreamException {
+      StringBuilder text = new StringBuilder();
+      int event = next();
+      while (event != XMLStreamConstants.END_ELEMENT) {
+        if (event == XMLStreamConstants.CHARACTERS
+            || event == XMLStreamConstants.CDATA
+            || event == XMLStreamConstants.SPACE
+            || event == XMLStreamConstants.ENTITY_REFERENCE) {
+          text.append(getText());
+        } else if (event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+          throw new XMLStreamException("Element contains no text-only content", getLocation());
+        }
+        event = next();
+      }
+      return text.toString();
+    }
+
+    PomStructure createStructure() {
+      Map<String, ImmutableLongArray> builtLocations = new LinkedHashMap<>();
+      this.locations.forEach((path, builder) -> builtLocations.put(path, builder.build()));
+
+      return new PomStructure(
+          this.sectionNames,
+          this.elementMaps.get(PomStructure.MANAGED_DEPENDENCIES_PATH),
+          this.elementMaps.get(PomStructure.DEPENDENCIES_PATH),
+          this.elementMaps.get(PomStructure.MANAGED_PLUGINS_PATH),
+          this.elementMaps.get(PomStructure.PLUGINS_PATH),
+          builtLocations);
+    }
+
+    private void startElement(String name) {
+      this.path.add(name);
+      int depth = this.path.size();
+
+      if (depth == SECTION_DEPTH) {
+        this.sectionNames.add(name);
+        addLocation(PomStructure.SECTIONS_PATH);
+      }
+
+      if (this.currentElementMap == null) {
+        String currentPath = currentPath();
+        if (this.elementMaps.containsKey(currentPath)) {
+          this.currentElementMap = new LinkedHashMap<>();
+          this.currentElementDepth = depth;
+          addLocation(currentPath);
+        } else if (depth == MODULE_DEPTH && PomStructure.MODULES_PATH.equals(currentPath)) {
+          addLocation(currentPath);
+        }
+      } else if (depth == this.currentElementDepth + 1) {
+        this.currentChildName = name;
+        this.currentChildText = new StringBuilder();
+      }
+    }
+
+    private void endElement() {
+      int depth = this.path.size();
+
+      if (this.currentElementMap != null) {
+        if (depth == this.currentElementDepth + 1) {
+          this.currentElementMap.put(this.currentChildName, this.currentChildText.toString());
+          this.currentChildName = null;
+          this.currentChildText = null;
+        } else if (depth == this.currentElementDepth) {
+          this.elementMaps.get(currentPath()).add(unmodifiableMap(this.currentElementMap));
+          this.currentElementMap = null;
+        }
+      }
+
+      this.path.remove(depth - 1);
+    }
+
+    private void addLocation(String path) {
+      this.locations.get(path).add(SourceLocation.pack(this.startLine, this.startColumn));
+    }
+
+    private String currentPath() {
+      StringBuilder sb = new StringBuilder();
+      for (String element : this.path) {
+        sb.append('/').append(element);
+      }
+      return sb.toString();
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import com.github.ferstl.maven.pomenforcers.util.CompiledXPath;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.ImmutableLongArray;
+
+/**
+ * Structural information about a POM file which is not contained in the {@link ProjectModel}: The order of the
+ * top-level sections and the order of the elements within each declared dependency and plugin. Each element is
+ * represented as a map of child element names to their text content, in document order.
+ * <p>
+ * When the structure is collected by the {@link PomReader}, it also contains the {@link SourceLocation}s of the
+ * top-level sections, the modules and the declared dependencies and plugins.
+ */
+public final class PomStructure {
+
+  static final String MANAGED_DEPENDENCIES_PATH = "/project/dependencyManagement/dependencies/dependency";
+  static final String DEPENDENCIES_PATH = "/project/dependencies/dependency";
+  static final String MANAGED_PLUGINS_PATH = "/project/build/pluginManagement/plugins/plugin";
+  static final String PLUGINS_PATH = "/project/build/plugins/plugin";
+  static final String MODULES_PATH = "/project/modules/module";
+  static final String SECTIONS_PATH = "/project/*";
+
+  private static final CompiledXPath MANAGED_DEPENDENCIES_XPATH = XmlUtils.compileXPath(MANAGED_DEPENDENCIES_PATH);
+  private static final CompiledXPath DEPENDENCIES_XPATH = XmlUtils.compileXPath(DEPENDENCIES_PATH);
+  private static final CompiledXPath MANAGED_PLUGINS_XPATH = XmlUtils.compileXPath(MANAGED_PLUGINS_PATH);
+  private static final CompiledXPath PLUGINS_XPATH = XmlUtils.compileXPath(PLUGINS_PATH);
+
+  private final List<String> sectionNames;
+  private final List<Map<String, String>> managedDependencyElements;
+  private final List<Map<String, String>> dependencyElements;
+  private final List<Map<String, String>> managedPluginElements;
+  private final List<Map<String, String>> pluginElements;
+  // Packed source locations by element path
+  private final Map<String, ImmutableLongArray> locations;
+
+  PomStructure(
+      List<String> sectionNames,
+      List<Map<String, String>> managedDependencyElements,
+      List<Map<String, String>> dependencyElements,
+      List<Map<String, String>> managedPluginElements,
+      List<Map<String, String>> pluginElements) {
+    this(sectionNames, managedDependencyElements, dependencyElements, managedPluginElements, pluginElements,
+        ImmutableMap.of());
+  }
+
+  PomStructure(
+      List<String> sectionNames,
+      List<Map<String, String>> managedDependencyElements,
+      List<Map<String, String>> dependencyElements,
+      List<Map<String, String>> managedPluginElements,
+      List<Map<String, String>> pluginElements,
+      Map<String, ImmutableLongArray> locations) {
+
+    this.locations = ImmutableMap.copyOf(locations);
+    this.sectionNames = Collections.unmodifiableList(sectionNames);
+    this.managedDependencyElements = Collections.unmodifiableList(managedDependencyElements);
+    this.dependencyElements = Collections.unmodifiableList(dependencyElements);
+    this.managedPluginElements = Collections.unmodifiableList(managedPluginElements);
+    this.pluginElements = Collections.unmodifiableList(pluginElements);
+  }
+
+  /**
+   * Extracts the structural information from the given XML {@link Document}.
+   *
+   * @param document The POM document.
+   * @return The POM structure.
+   */
+  public static PomStructure fromDocument(Document document) {
+    List<String> sectionNames = new ArrayList<>();
+    NodeList sectionNodes = document.getDocumentElement().getChildNodes();
+    for (int i = 0; i < sectionNodes.getLength(); i++) {
+      Node node = sectionNodes.item(i);
+      if (node.getNodeType() == Node.ELEMENT_NODE) {
+        sectionNames.add(node.getNodeName());
+      }
+    }
+
+    return new PomStructure(
+        sectionNames,
+        createElementMaps(MANAGED_DEPENDENCIES_XPATH, document),
+        createElementMaps(DEPENDENCIES_XPATH, document),
+        createElementMaps(MANAGED_PLUGINS_XPATH, document),
+        createElementMaps(PLUGINS_XPATH, document));
+  }
+
+  /**
+   * Returns the top-level sections of the POM in document order.
+   *
+   * @return The POM sections.
+   * @throws IllegalArgumentException if the POM contains an unknown section.
+   */
+  public List<PomSection> getSections() {
+    List<PomSection> sections = new ArrayList<>(this.sectionNames.size());
+    for (String sectionName : this.sectionNames) {
+      sections.add(PomSection.getBySectionName(sectionName));
+    }
+    return sections;
+  }
+
+  public List<Map<String, String>> getManagedDependencyElements() {
+    return this.managedDependencyElements;
+  }
+
+  public List<Map<String, String>> getDependencyElements() {
+    return this.dependencyElements;
+  }
+
+  public List<Map<String, String>> getManagedPluginElements() {
+    return this.managedPluginElements;
+  }
+
+  public List<Map<String, String>> getPluginElements() {
+    return this.pluginElements;
+  }
+
+  /**
+   * Returns the location of the first occurrence of the given section.
+   *
+   * @param section The POM section.
+   * @return The location or {@link SourceLocation#UNKNOWN} if the section does not exist or its location is unknown.
+   */
+  public SourceLocation getSectionLocation(PomSection section) {
+    return getLocation(SECTIONS_PATH, this.sectionNames.indexOf(section.getSectionName()));
+  }
+
+  /**
+   * Returns the location of the section at the given position in {@link #getSections()}.
+   *
+   * @param index The index of the section.
+   * @return The location or {@link SourceLocation#UNKNOWN} if it is not known.
+   */
+  public SourceLocation getSectionLocation(int index) {
+    return getLocation(SECTIONS_PATH, index);
+  }
+
+  /**
+   * Returns the location of the module at the given position in {@link ProjectModel#getModules()}.
+   *
+   * @param index The index of the module.
+   * @return The location or {@link SourceLocation#UNKNOWN} if it is not known.
+   */
+  public SourceLocation getModuleLocation(int index) {
+    return getLocation(MODULES_PATH, index);
+  }
+
+  /**
+   * Returns the location of the managed dependency at the given position in {@link #getManagedDependencyElements()}.
+   *
+   * @param index The index of the managed dependency.
+   * @return The location or {@link SourceLocation#UNKNOWN} if it is not known.
+   */
+  public SourceLocation getManagedDependencyLocation(int index) {
+    return getLocation(MANAGED_DEPENDENCIES_PATH, index);
+  }
+
+  /**
+   * Returns the location of the dependency at the given position in {@link #getDependencyElements()}.
+   *
+   * @param index The index of the dependency.
+   * @return The location or {@link SourceLocation#UNKNOWN} if it is not known.
+   */
+  public SourceLocation getDependencyLocation(int index) {
+    return getLocation(DEPENDENCIES_PATH, index);
+  }
+
+  /**
+   * Returns the location of the managed plugin at the given position in {@link #getManagedPluginElements()}.
+   *
+   * @param index The index of the managed plugin.
+   * @return The location or {@link SourceLocation#UNKNOWN} if it is not known.
+   */
+  public SourceLocation getManagedPluginLocation(int index) {
+    return getLocation(MANAGED_PLUGINS_PATH, index);
+  }
+
+  /**
+   * Returns the location of the plugin at the given position in {@link #getPluginElements()}.
+   *
+   * @param index The index of the plugin.
+   * @return The location or {@link SourceLocation#UNKNOWN} if it is not known.
+   */
+  public SourceLocation getPluginLocation(int index) {
+    return getLocation(PLUGINS_PATH, index);
+  }
+
+  private SourceLocation getLocation(String path, int index) {
+    ImmutableLongArray pathLocations = this.locations.get(path);
+    if (pathLocations == null || index < 0 || index >= pathLocations.length()) {
+      return SourceLocation.UNKNOWN;
+    }
+    return SourceLocation.unpack(pathLocations.get(index));
+  }
+
+  private static List<Map<String, String>> createElementMaps(CompiledXPath xPath, Document document) {
+    NodeList nodes = xPath.evaluateAsNodeList(document);
+
+    List<Map<String, String>> elementMaps = new ArrayList<>(nodes.getLength());
+    for (int i = 0; i < nodes.getLength(); i++) {
+      NodeList elements = nodes.item(i).getChildNodes();
+
+      Map<String, String> elementMap = new LinkedHashMap<>();
+      for (int j = 0; j < elements.getLength(); j++) {
+        Node element = elements.item(j);
+
+        if (element instanceof Element) {
+          elementMap.put(element.getNodeName(), element.getTextContent());
+        }
+      }
+      elementMaps.add(Collections.unmodifiableMap(elementMap));
+    }
+
+    return elementMaps;
+  }
+}
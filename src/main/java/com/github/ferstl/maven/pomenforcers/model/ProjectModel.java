@@ -18,10 +18,12 @@ package com.github.ferstl.maven.pomenforcers.model;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 
 @XmlRootElement(name = "project")
 public class ProjectModel {
@@ -41,10 +43,19 @@ public class ProjectModel {
   public DependencyManagementModel dependencyManagement;
 
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
-  public DependenciesModel dependencies;
+  private DependenciesModel dependencies;
 
   @XmlElement(namespace = "http://maven.apache.org/POM/4.0.0")
-  public BuildModel build;
+  private BuildModel build;
+
+  // JAXB callback
+  void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+    this.groupId = CoordinatePool.intern(this.groupId);
+    this.artifactId = CoordinatePool.intern(this.artifactId);
+    if (this.modules != null) {
+      this.modules = ImmutableList.copyOf(this.modules);
+    }
+  }
 
   public List<String> getModules() {
     return this.modules != null ? this.modules : Collections.emptyList();
@@ -68,6 +79,15 @@ public class ProjectModel {
     return this.build != null ? this.build.getPlugins() : Collections.emptyList();
   }
 
+  /**
+   * Returns the number of declared dependencies and plugins, including the managed ones.
+   *
+   * @return The number of declared artifacts.
+   */
+  public int getArtifactCount() {
+    return getManagedDependencies().size() + getDependencies().size() + getManagedPlugins().size() + getPlugins().size();
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("Project ")
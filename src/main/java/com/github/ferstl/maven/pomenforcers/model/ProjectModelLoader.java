@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.File;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+import com.github.ferstl.maven.pomenforcers.util.BoundedPool;
+
+/**
+ * Loads {@link ProjectModel}s with JAXB. The {@link JAXBContext} is created only once per class loader when it is
+ * used for the first time. {@link Unmarshaller}s are not thread-safe and are therefore kept in a small pool from which
+ * each thread borrows an instance for the time of a single unmarshalling operation.
+ */
+public final class ProjectModelLoader {
+
+  private static final int MAX_POOLED_UNMARSHALLERS = 16;
+
+  private static final BoundedPool<Unmarshaller> UNMARSHALLERS =
+      new BoundedPool<>(MAX_POOLED_UNMARSHALLERS, ProjectModelLoader::createUnmarshaller);
+
+  /**
+   * Returns the shared {@link JAXBContext} for the {@link ProjectModel} and all its model classes.
+   *
+   * @return The shared JAXB context.
+   */
+  public static JAXBContext getContext() {
+    return ContextHolder.CONTEXT;
+  }
+
+  /**
+   * Loads the project model from the given POM file.
+   *
+   * @param pomFile The POM file.
+   * @return The project model.
+   */
+  public static ProjectModel load(File pomFile) {
+    Unmarshaller unmarshaller = UNMARSHALLERS.borrow();
+    try {
+      return unmarshaller.unmarshal(new StreamSource(pomFile), ProjectModel.class).getValue();
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Unable to load project model from " + pomFile, e);
+    } finally {
+      UNMARSHALLERS.release(unmarshaller);
+    }
+  }
+
+  /**
+   * Loads the project model from the given StAX reader. The reader is not closed by this method.
+   *
+   * @param reader The StAX reader.
+   * @return The project model.
+   */
+  public static ProjectModel load(XMLStreamReader reader) {
+    Unmarshaller unmarshaller = UNMARSHALLERS.borrow();
+    try {
+      return unmarshaller.unmarshal(reader, ProjectModel.class).getValue();
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Unable to load project model", e);
+    } finally {
+      UNMARSHALLERS.release(unmarshaller);
+    }
+  }
+
+  private static Unmarshaller createUnmarshaller() {
+    try {
+      return getContext().createUnmarshaller();
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Unable to create unmarshaller", e);
+    }
+  }
+
+  private ProjectModelLoader() {
+  }
+
+  /**
+   * Lazy holder for the JAXB context which is initialized on first access of {@link #CONTEXT}.
+   */
+  private static final class ContextHolder {
+
+    static final JAXBContext CONTEXT = createContext();
+
+    private static JAXBContext createContext() {
+      try {
+        return JAXBContext.newInstance(
+            ProjectModel.class,
+            ArtifactModel.class,
+            DependencyModel.class,
+            PluginModel.class,
+            BuildModel.class);
+      } catch (JAXBException e) {
+        throw new IllegalStateException("Unable to create JAXB context for the project model", e);
+      }
+    }
+  }
+}
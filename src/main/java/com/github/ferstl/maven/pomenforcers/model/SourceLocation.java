@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+/**
+ * Position of an element in a POM file, i.e. the position of the <code>&lt;</code> that starts its start tag. Lines and
+ * columns are one-based.
+ */
+public final class SourceLocation {
+
+  /**
+   * Location of elements whose position is not known, e.g. because the POM was not read from its raw content.
+   */
+  public static final SourceLocation UNKNOWN = new SourceLocation(0, 0);
+
+  private final int line;
+  private final int column;
+
+  public SourceLocation(int line, int column) {
+    this.line = line;
+    this.column = column;
+  }
+
+  /**
+   * Packs a line and a column into a single <code>long</code> value.
+   */
+  static long pack(int line, int column) {
+    return ((long) line << 32) | (column & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Creates a location from a value created by {@link #pack(int, int)}.
+   */
+  static SourceLocation unpack(long packed) {
+    return new SourceLocation((int) (packed >>> 32), (int) packed);
+  }
+
+  public int getLine() {
+    return this.line;
+  }
+
+  public int getColumn() {
+    return this.column;
+  }
+
+  public boolean isKnown() {
+    return this.line > 0;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof SourceLocation)) {
+      return false;
+    }
+
+    SourceLocation other = (SourceLocation) obj;
+    return this.line == other.line && this.column == other.column;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * this.line + this.column;
+  }
+
+  @Override
+  public String toString() {
+    return this.line + ":" + this.column;
+  }
+}
@@ -15,41 +15,39 @@
  */
 package com.github.ferstl.maven.pomenforcers.model.functions;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.github.ferstl.maven.pomenforcers.model.CoordinatePool;
+import com.github.ferstl.maven.pomenforcers.util.PropertyInterpolator;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableBiMap.Builder;
+import com.google.common.collect.Maps;
 
 
 public abstract class AbstractOneToOneMatcher<U, V> {
 
-  private final ExpressionEvaluator helper;
+  private final PropertyInterpolator interpolator;
 
   AbstractOneToOneMatcher(ExpressionEvaluator helper) {
-    this.helper = helper;
+    this(new PropertyInterpolator(helper));
+  }
+
+  AbstractOneToOneMatcher(PropertyInterpolator interpolator) {
+    this.interpolator = interpolator;
   }
 
   public final BiMap<V, V> match(Collection<U> superset, Collection<V> subset) {
     Builder<V, V> mapBuilder = ImmutableBiMap.builder();
 
-    // Transform the superset here in order not to do it in each nested loop
-    Collection<V> transformedSuperset = transformSuperset(superset);
-
+    Map<Object, V> supersetIndex = indexSuperset(superset);
     for (V subsetItem : subset) {
-      boolean itemMatched = false;
-
-      for (V supersetItem : transformedSuperset) {
-        if (matches(supersetItem, subsetItem)) {
-          itemMatched = true;
-          mapBuilder.put(supersetItem, subsetItem);
-          break;
-        }
-      }
+      V supersetItem = supersetIndex.get(subsetKey(subsetItem));
 
-      if (!itemMatched) {
+      if (supersetItem != null) {
+        mapBuilder.put(supersetItem, subsetItem);
+      } else {
         handleUnmatchedItem(mapBuilder, subsetItem);
       }
     }
@@ -63,17 +61,40 @@ public abstract class AbstractOneToOneMatcher<U, V> {
 
   protected abstract V transform(U supersetItem);
 
-  protected abstract boolean matches(V supersetItem, V subsetItem);
+  /**
+   * Creates the key of a (transformed) superset item. A superset item and a subset item match if their keys are
+   * equal.
+   *
+   * @param supersetItem The superset item.
+   * @return The key, which must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+   */
+  protected abstract Object supersetKey(V supersetItem);
+
+  /**
+   * Creates the key of a subset item. This is the place to resolve properties within the subset item since this
+   * method is called only once per subset item.
+   *
+   * @param subsetItem The subset item.
+   * @return The key, which must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+   */
+  protected abstract Object subsetKey(V subsetItem);
+
+  protected boolean matches(V supersetItem, V subsetItem) {
+    return supersetKey(supersetItem).equals(subsetKey(subsetItem));
+  }
 
-  ExpressionEvaluator getHelper() {
-    return this.helper;
+  String interpolate(String value) {
+    // Pooled coordinates are usually identical to the coordinates of the superset items
+    return CoordinatePool.intern(this.interpolator.interpolate(value));
   }
 
-  private Collection<V> transformSuperset(Collection<U> superset) {
-    List<V> transformed = new ArrayList<>(superset.size());
+  private Map<Object, V> indexSuperset(Collection<U> superset) {
+    Map<Object, V> index = Maps.newHashMapWithExpectedSize(superset.size());
     for (U supersetItem : superset) {
-      transformed.add(transform(supersetItem));
+      V transformed = transform(supersetItem);
+      // The first item with a given key wins, like in a linear search
+      index.putIfAbsent(supersetKey(transformed), transformed);
     }
-    return transformed;
+    return index;
   }
 }
@@ -15,13 +15,14 @@
  */
 package com.github.ferstl.maven.pomenforcers.model.functions;
 
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.maven.model.Dependency;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
+import com.github.ferstl.maven.pomenforcers.util.PropertyInterpolator;
 import com.google.common.collect.ImmutableBiMap.Builder;
-import static com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils.evaluateProperties;
 
 /**
  * Matches Maven {@link Dependency} objects with {@link DependencyModel} objects.
@@ -32,6 +33,10 @@ public class DependencyMatcher extends AbstractOneToOneMatcher<Dependency, Depen
     super(helper);
   }
 
+  public DependencyMatcher(PropertyInterpolator interpolator) {
+    super(interpolator);
+  }
+
   @Override
   protected DependencyModel transform(Dependency mavenDependency) {
     return new DependencyModel(
@@ -44,23 +49,33 @@ public class DependencyMatcher extends AbstractOneToOneMatcher<Dependency, Depen
   }
 
   @Override
-  protected boolean matches(DependencyModel supersetItem, DependencyModel subsetItem) {
-    String groupId = evaluateProperties(subsetItem.getGroupId(), getHelper());
-    String artifactId = evaluateProperties(subsetItem.getArtifactId(), getHelper());
-    String classifier = evaluateProperties(subsetItem.getClassifier(), getHelper());
-    String type = evaluateProperties(subsetItem.getType(), getHelper());
+  protected Object supersetKey(DependencyModel supersetItem) {
+    return createKey(
+        supersetItem.getGroupId(),
+        supersetItem.getArtifactId(),
+        supersetItem.getType(),
+        supersetItem.getClassifier());
+  }
+
+  @Override
+  protected Object subsetKey(DependencyModel subsetItem) {
+    return createKey(
+        interpolate(subsetItem.getGroupId()),
+        interpolate(subsetItem.getArtifactId()),
+        interpolate(subsetItem.getType()),
+        interpolate(subsetItem.getClassifier()));
+  }
 
-    return Objects.equals(supersetItem.getGroupId(), groupId)
-        && Objects.equals(supersetItem.getArtifactId(), artifactId)
-        && Objects.equals(supersetItem.getClassifier(), classifier)
-        && Objects.equals(supersetItem.getType(), type);
+  private static List<String> createKey(String groupId, String artifactId, String type, String classifier) {
+    // groupId:artifactId:type:classifier, null-safe
+    return Arrays.asList(groupId, artifactId, type, classifier);
   }
 
   @Override
   protected void handleUnmatchedItem(
       Builder<DependencyModel, DependencyModel> mapBuilder,
       DependencyModel subsetItem) {
-    String type = evaluateProperties(subsetItem.getType(), getHelper());
+    String type = interpolate(subsetItem.getType());
     if ("pom".equals(type) && DependencyScope.IMPORT.equals(subsetItem.getScope())) {
       mapBuilder.put(subsetItem, subsetItem);
     } else {
@@ -15,11 +15,11 @@
  */
 package com.github.ferstl.maven.pomenforcers.model.functions;
 
-import java.util.Objects;
+import java.util.Arrays;
 import org.apache.maven.model.Plugin;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import com.github.ferstl.maven.pomenforcers.model.PluginModel;
-import static com.github.ferstl.maven.pomenforcers.util.EnforcerRuleUtils.evaluateProperties;
+import com.github.ferstl.maven.pomenforcers.util.PropertyInterpolator;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 /**
@@ -33,22 +33,28 @@ public class PluginMatcher extends AbstractOneToOneMatcher<Plugin, PluginModel>
     super(helper);
   }
 
+  public PluginMatcher(PropertyInterpolator interpolator) {
+    super(interpolator);
+  }
+
   @Override
   protected PluginModel transform(Plugin mavenPlugin) {
     return new PluginModel(mavenPlugin.getGroupId(), mavenPlugin.getArtifactId(), mavenPlugin.getVersion());
   }
 
   @Override
-  protected boolean matches(PluginModel supersetItem, PluginModel subsetItem) {
-    String groupId = getGroupId(subsetItem);
-    String artifactId = evaluateProperties(subsetItem.getArtifactId(), getHelper());
+  protected Object supersetKey(PluginModel supersetItem) {
+    // groupId:artifactId, null-safe
+    return Arrays.asList(supersetItem.getGroupId(), supersetItem.getArtifactId());
+  }
 
-    return Objects.equals(supersetItem.getGroupId(), groupId)
-        && Objects.equals(supersetItem.getArtifactId(), artifactId);
+  @Override
+  protected Object subsetKey(PluginModel subsetItem) {
+    return Arrays.asList(getGroupId(subsetItem), interpolate(subsetItem.getArtifactId()));
   }
 
   private String getGroupId(PluginModel plugin) {
-    String groupId = evaluateProperties(plugin.getGroupId(), getHelper());
+    String groupId = interpolate(plugin.getGroupId());
     return !isNullOrEmpty(groupId) ? groupId : DEFAULT_GROUP_ID;
   }
 
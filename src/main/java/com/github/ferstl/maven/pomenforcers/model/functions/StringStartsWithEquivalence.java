@@ -36,6 +36,11 @@ public class StringStartsWithEquivalence extends Equivalence<String> {
     return t.hashCode();
   }
 
+  @Override
+  public String toString() {
+    return "stringStartsWith()";
+  }
+
   private StringStartsWithEquivalence() {
   }
 
@@ -15,11 +15,10 @@
  */
 package com.github.ferstl.maven.pomenforcers.priority;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
@@ -28,6 +27,10 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 
 /**
+ * Compound ordering of several {@link PriorityOrdering}s. The priority orderings are compiled into an immutable
+ * comparator chain whenever the order or the priorities change, so comparisons do not allocate any objects. Checking
+ * the order of many elements or sorting them is done on {@link SortKeys}, which are computed once per element.
+ *
  * @param <T> Type of this ordering.
  * @param <P> Type of the priorities.
  * @param <F> Type of the {@link PriorityOrderingFactory}.
@@ -36,6 +39,7 @@ public class CompoundPriorityOrdering<T, P extends Comparable<P>, F extends Prio
 
   private final Set<F> orderBy;
   private final Multimap<F, P> priorityMap;
+  private volatile ImmutableList<PriorityOrdering<P, T>> compiledOrdering;
 
   public static <T, P extends Comparable<P>, F extends PriorityOrderingFactory<P, T>> CompoundPriorityOrdering<T, P, F> orderBy(Iterable<F> artifactElements) {
     if (Iterables.isEmpty(artifactElements)) {
@@ -53,31 +57,71 @@ public class CompoundPriorityOrdering<T, P extends Comparable<P>, F extends Prio
   private CompoundPriorityOrdering(Iterable<F> artifactElements) {
     this.orderBy = Sets.newLinkedHashSet(artifactElements);
     this.priorityMap = LinkedHashMultimap.create();
+    this.compiledOrdering = compile();
   }
 
   public void redefineOrderBy(Iterable<F> artifactElements) {
     this.orderBy.clear();
     this.orderBy.addAll(Lists.newArrayList(artifactElements));
+    this.compiledOrdering = compile();
   }
 
   public void setPriorities(F artifactElement, Iterable<P> priorities) {
     this.priorityMap.removeAll(artifactElement);
     this.priorityMap.putAll(artifactElement, priorities);
+    this.compiledOrdering = compile();
   }
 
   @Override
   public int compare(T left, T right) {
-    return createOrdering().compare(left, right);
+    ImmutableList<PriorityOrdering<P, T>> orderings = this.compiledOrdering;
+    for (int i = 0; i < orderings.size(); i++) {
+      int result = orderings.get(i).compare(left, right);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Computes the sort keys of the given elements. Each element is transformed and ranked exactly once, so checking
+   * the order and sorting the returned keys is cheaper than doing the same with this ordering directly.
+   *
+   * @param elements The elements.
+   * @return The sort keys of the elements in the iteration order of the given elements.
+   */
+  public <E extends T> SortKeys<E> sortKeys(Iterable<E> elements) {
+    return new SortKeys<>(this.compiledOrdering, elements);
+  }
+
+  @Override
+  public boolean isOrdered(Iterable<? extends T> iterable) {
+    return sortKeys(iterable).isOrdered();
+  }
+
+  @Override
+  public <E extends T> List<E> sortedCopy(Iterable<E> elements) {
+    return Lists.newArrayList(sortKeys(elements).sortedCopy());
+  }
+
+  @Override
+  public <E extends T> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+    return sortKeys(elements).sortedCopy();
+  }
+
+  @Override
+  public String toString() {
+    return "CompoundPriorityOrdering[orderBy=" + this.orderBy + ", priorities=" + this.priorityMap + "]";
   }
 
-  private Ordering<T> createOrdering() {
-    List<Comparator<T>> comparators = new ArrayList<>(this.orderBy.size());
+  private ImmutableList<PriorityOrdering<P, T>> compile() {
+    ImmutableList.Builder<PriorityOrdering<P, T>> orderings = ImmutableList.builderWithExpectedSize(this.orderBy.size());
     for (F artifactElement : this.orderBy) {
-      Comparator<T> comparator =
-          artifactElement.createPriorityOrdering(this.priorityMap.get(artifactElement));
-      comparators.add(comparator);
+      // Copy the priorities since the multimap returns a live view
+      orderings.add(artifactElement.createPriorityOrdering(ImmutableList.copyOf(this.priorityMap.get(artifactElement))));
     }
 
-    return Ordering.compound(comparators);
+    return orderings.build();
   }
 }
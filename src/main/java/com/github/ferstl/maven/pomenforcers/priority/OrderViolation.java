@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+/**
+ * An element that is out of order, i.e. that is smaller than its predecessor.
+ *
+ * @param <T> Type of the element.
+ */
+public final class OrderViolation<T> {
+
+  private final int position;
+  private final T predecessor;
+  private final T element;
+
+  OrderViolation(int position, T predecessor, T element) {
+    this.position = position;
+    this.predecessor = predecessor;
+    this.element = element;
+  }
+
+  /**
+   * Returns the zero-based position of the element.
+   *
+   * @return The position of the element.
+   */
+  public int getPosition() {
+    return this.position;
+  }
+
+  /**
+   * Returns the predecessor of the element, which should be placed after the element.
+   *
+   * @return The predecessor.
+   */
+  public T getPredecessor() {
+    return this.predecessor;
+  }
+
+  /**
+   * Returns the element that is out of order.
+   *
+   * @return The element.
+   */
+  public T getElement() {
+    return this.element;
+  }
+
+  @Override
+  public String toString() {
+    return this.element + " (position " + (this.position + 1) + ") has to be placed before " + this.predecessor;
+  }
+}
@@ -15,11 +15,18 @@
  */
 package com.github.ferstl.maven.pomenforcers.priority;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import com.github.ferstl.maven.pomenforcers.model.functions.StringStartsWithEquivalence;
 import com.google.common.base.Equivalence;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 
 /**
@@ -52,11 +59,18 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
    */
   private final Function<T, P> transformer;
 
+  /**
+   * Lookup structure for the ranks of the priority collection. It is built once when this ordering is created, so
+   * later modifications of the priority collection are not reflected.
+   */
+  private final RankIndex<P> rankIndex;
+
 
   public PriorityOrdering(Collection<P> prioritizedItems, Function<T, P> transformer, Equivalence<? super P> priorityMatcher) {
     this.priorityCollection = prioritizedItems;
     this.priorityMatcher = priorityMatcher;
     this.transformer = transformer;
+    this.rankIndex = createRankIndex(prioritizedItems, priorityMatcher);
   }
 
   public PriorityOrdering(Collection<P> priorityCollection, Function<T, P> transformer) {
@@ -68,15 +82,28 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
     P comparable1 = this.transformer.apply(object1);
     P comparable2 = this.transformer.apply(object2);
 
-    int rank1 = this.rank(comparable1);
-    int rank2 = this.rank(comparable2);
+    return compare(comparable1, this.rank(comparable1), comparable2, this.rank(comparable2));
+  }
 
-    if (rank1 == rank2) {
-      return comparable1.compareTo(comparable2);
-    }
+  /**
+   * Sorts the given elements. The rank of each element is determined only once for the whole sort.
+   */
+  @Override
+  public <E extends T> List<E> sortedCopy(Iterable<E> elements) {
+    return Lists.newArrayList(sortDecorated(elements));
+  }
 
-    return rank1 - rank2;
+  /**
+   * Sorts the given elements. The rank of each element is determined only once for the whole sort.
+   */
+  @Override
+  public <E extends T> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+    return ImmutableList.copyOf(sortDecorated(elements));
+  }
 
+  @Override
+  public String toString() {
+    return "PriorityOrdering[priorities=" + this.priorityCollection + ", matcher=" + this.priorityMatcher + "]";
   }
 
   /**
@@ -87,16 +114,154 @@ public class PriorityOrdering<P extends Comparable<? super P>, T> extends Orderi
    * @return The priority of the given item or {@link Integer#MAX_VALUE} if the given item does not
    * match any element of the priority collection.
    */
-  private int rank(P item) {
-    int i = 0;
-    for (P prioritizedItem : this.priorityCollection) {
-      if (this.priorityMatcher.equivalent(item, prioritizedItem)) {
-        return i;
+  int rank(P item) {
+    return this.rankIndex.rank(item);
+  }
+
+  P transform(T item) {
+    return this.transformer.apply(item);
+  }
+
+  private <E extends T> List<E> sortDecorated(Iterable<E> elements) {
+    List<Decorated<P, E>> decorated = new ArrayList<>();
+    for (E element : elements) {
+      P key = this.transformer.apply(element);
+      decorated.add(new Decorated<>(element, key, rank(key)));
+    }
+
+    decorated.sort((d1, d2) -> compare(d1.key, d1.rank, d2.key, d2.rank));
+
+    List<E> result = new ArrayList<>(decorated.size());
+    for (Decorated<P, E> element : decorated) {
+      result.add(element.element);
+    }
+    return result;
+  }
+
+  static <P extends Comparable<? super P>> int compare(P comparable1, int rank1, P comparable2, int rank2) {
+    if (rank1 == rank2) {
+      return comparable1.compareTo(comparable2);
+    }
+
+    return rank1 - rank2;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <P> RankIndex<P> createRankIndex(Collection<P> priorityCollection, Equivalence<? super P> priorityMatcher) {
+    if (Equivalence.equals().equals(priorityMatcher)) {
+      return new HashRankIndex<>(priorityCollection);
+    } else if (priorityMatcher instanceof StringStartsWithEquivalence) {
+      // P is String for this equivalence
+      return (RankIndex<P>) new PrefixRankIndex((Collection<String>) priorityCollection);
+    }
+
+    return new LinearRankIndex<>(ImmutableList.copyOf(priorityCollection), priorityMatcher);
+  }
+
+  private interface RankIndex<P> {
+
+    int rank(P item);
+  }
+
+  /**
+   * Ranks items that are equal to an item in the priority collection.
+   */
+  private static final class HashRankIndex<P> implements RankIndex<P> {
+
+    private final Map<P, Integer> ranks;
+
+    HashRankIndex(Collection<P> priorityCollection) {
+      this.ranks = Maps.newHashMapWithExpectedSize(priorityCollection.size());
+      int i = 0;
+      for (P prioritizedItem : priorityCollection) {
+        this.ranks.putIfAbsent(prioritizedItem, i++);
       }
-      i++;
     }
 
-    return Integer.MAX_VALUE;
+    @Override
+    public int rank(P item) {
+      Integer rank = this.ranks.get(item);
+      return rank != null ? rank : Integer.MAX_VALUE;
+    }
   }
 
+  /**
+   * Ranks strings that start with an item of the priority collection. The prefixes are stored in a trie, so the first
+   * matching prefix is found by walking the characters of the string once.
+   */
+  private static final class PrefixRankIndex implements RankIndex<String> {
+
+    private final TrieNode root = new TrieNode();
+
+    PrefixRankIndex(Collection<String> priorityCollection) {
+      int i = 0;
+      for (String prefix : priorityCollection) {
+        TrieNode node = this.root;
+        for (int j = 0; j < prefix.length(); j++) {
+          node = node.children.computeIfAbsent(prefix.charAt(j), c -> new TrieNode());
+        }
+        // Like the linear search, the first occurrence of a prefix wins
+        node.rank = Math.min(node.rank, i++);
+      }
+    }
+
+    @Override
+    public int rank(String item) {
+      // A shorter prefix may have been declared before a longer one, so keep the lowest rank on the path
+      TrieNode node = this.root;
+      int rank = node.rank;
+      for (int i = 0; i < item.length(); i++) {
+        node = node.children.get(item.charAt(i));
+        if (node == null) {
+          break;
+        }
+        rank = Math.min(rank, node.rank);
+      }
+      return rank;
+    }
+
+    private static final class TrieNode {
+
+      final Map<Character, TrieNode> children = new HashMap<>(4);
+      int rank = Integer.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Ranks items by matching them against each item of the priority collection. Used for all other equivalences.
+   */
+  private static final class LinearRankIndex<P> implements RankIndex<P> {
+
+    private final List<P> priorityCollection;
+    private final Equivalence<? super P> priorityMatcher;
+
+    LinearRankIndex(List<P> priorityCollection, Equivalence<? super P> priorityMatcher) {
+      this.priorityCollection = priorityCollection;
+      this.priorityMatcher = priorityMatcher;
+    }
+
+    @Override
+    public int rank(P item) {
+      for (int i = 0; i < this.priorityCollection.size(); i++) {
+        if (this.priorityMatcher.equivalent(item, this.priorityCollection.get(i))) {
+          return i;
+        }
+      }
+
+      return Integer.MAX_VALUE;
+    }
+  }
+
+  private static final class Decorated<P, E> {
+
+    final E element;
+    final P key;
+    final int rank;
+
+    Decorated(E element, P key, int rank) {
+      this.element = element;
+      this.key = key;
+      this.rank = rank;
+    }
+  }
 }
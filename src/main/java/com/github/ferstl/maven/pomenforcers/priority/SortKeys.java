@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Precomputed sort keys of a list of elements for a {@link CompoundPriorityOrdering}. Each element is transformed and
+ * ranked only once by each {@link PriorityOrdering} of the compound ordering. Checking the order or sorting the
+ * elements compares the precomputed ranks and values only.
+ *
+ * @param <T> Type of the elements.
+ */
+public final class SortKeys<T> {
+
+  private final List<Key<T>> keys;
+
+  <P extends Comparable<? super P>> SortKeys(List<? extends PriorityOrdering<P, ? super T>> orderings, Iterable<? extends T> elements) {
+    this.keys = new ArrayList<>();
+    for (T element : elements) {
+      int[] ranks = new int[orderings.size()];
+      Object[] values = new Object[orderings.size()];
+      for (int i = 0; i < orderings.size(); i++) {
+        PriorityOrdering<P, ? super T> ordering = orderings.get(i);
+        P value = ordering.transform(element);
+        values[i] = value;
+        ranks[i] = ordering.rank(value);
+      }
+      this.keys.add(new Key<>(element, ranks, values));
+    }
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return The number of elements.
+   */
+  public int size() {
+    return this.keys.size();
+  }
+
+  /**
+   * Checks whether the elements are ordered. The check stops at the first element that is out of order.
+   *
+   * @return {@code true} if each element is less than or equal to its successor.
+   */
+  public boolean isOrdered() {
+    for (int i = 1; i < this.keys.size(); i++) {
+      if (compare(this.keys.get(i - 1), this.keys.get(i)) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds all elements that are smaller than their predecessor in a single pass. Unlike comparing the elements with
+   * their sorted copy, this does neither sort nor diff the elements.
+   *
+   * @return The violations in the order of their positions. The list is empty if the elements are ordered.
+   */
+  public List<OrderViolation<T>> getViolations() {
+    List<OrderViolation<T>> violations = new ArrayList<>();
+    for (int i = 1; i < this.keys.size(); i++) {
+      Key<T> predecessor = this.keys.get(i - 1);
+      Key<T> key = this.keys.get(i);
+      if (compare(predecessor, key) > 0) {
+        violations.add(new OrderViolation<>(i, predecessor.element, key.element));
+      }
+    }
+    return violations;
+  }
+
+  /**
+   * Returns the elements in sorted order. The sort is stable.
+   *
+   * @return The sorted elements.
+   */
+  public ImmutableList<T> sortedCopy() {
+    List<Key<T>> sortedKeys = new ArrayList<>(this.keys);
+    sortedKeys.sort(SortKeys::compare);
+
+    ImmutableList.Builder<T> sorted = ImmutableList.builderWithExpectedSize(sortedKeys.size());
+    for (Key<T> key : sortedKeys) {
+      sorted.add(key.element);
+    }
+    return sorted.build();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compare(Key<?> key1, Key<?> key2) {
+    for (int i = 0; i < key1.ranks.length; i++) {
+      int result = PriorityOrdering.compare((Comparable) key1.values[i], key1.ranks[i], (Comparable) key2.values[i], key2.ranks[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private static final class Key<T> {
+
+    final T element;
+    final int[] ranks;
+    final Object[] values;
+
+    Key(T element, int[] ranks, Object[] values) {
+      this.element = element;
+      this.ranks = ranks;
+      this.values = values;
+    }
+  }
+}
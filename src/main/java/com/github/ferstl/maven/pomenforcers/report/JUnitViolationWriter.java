@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes a JUnit XML report with one failed test case per violation. The test cases are named after the violated
+ * rule and grouped by module.
+ */
+final class JUnitViolationWriter implements ViolationWriter {
+
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+  private final Writer out;
+  private final XMLStreamWriter writer;
+
+  JUnitViolationWriter(Writer out) throws IOException {
+    this.out = out;
+    try {
+      this.writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+      this.writer.writeStartDocument("UTF-8", "1.0");
+      this.writer.writeCharacters("\n");
+      this.writer.writeStartElement("testsuite");
+      this.writer.writeAttribute("name", "pedantic-pom-enforcers");
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void write(Violation violation) throws IOException {
+    try {
+      this.writer.writeCharacters("\n  ");
+      this.writer.writeStartElement("testcase");
+      this.writer.writeAttribute("classname", violation.getModule() != null ? violation.getModule() : "");
+      this.writer.writeAttribute("name", violation.getElement() != null
+          ? violation.getRule().name() + " " + violation.getElement()
+          : violation.getRule().name());
+      if (violation.getPomFile() != null) {
+        this.writer.writeAttribute("file", violation.getPomFile());
+      }
+      if (violation.getLine() > 0) {
+        this.writer.writeAttribute("line", String.valueOf(violation.getLine()));
+      }
+
+      this.writer.writeStartElement("failure");
+      this.writer.writeAttribute("message", violation.getRule().getSlogan());
+      this.writer.writeAttribute("type", violation.getRule().name());
+      this.writer.writeCharacters(violation.getMessage());
+      this.writer.writeEndElement();
+
+      this.writer.writeEndElement();
+      this.writer.flush();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      this.writer.writeCharacters("\n");
+      this.writer.writeEndElement();
+      this.writer.writeEndDocument();
+      this.writer.writeCharacters("\n");
+      this.writer.close();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+    this.out.flush();
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeProperty;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeString;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeStrings;
+
+/**
+ * Writes each violation as a single-line JSON object.
+ */
+final class JsonLinesViolationWriter implements ViolationWriter {
+
+  private final Writer out;
+
+  JsonLinesViolationWriter(Writer out) {
+    this.out = out;
+  }
+
+  @Override
+  public void write(Violation violation) throws IOException {
+    this.out.append('{');
+    writeProperty(this.out, "rule", violation.getRule().name());
+    this.out.append(',');
+    writeProperty(this.out, "module", violation.getModule());
+    this.out.append(',');
+    writeProperty(this.out, "pomFile", violation.getPomFile());
+    this.out.append(',');
+    writeProperty(this.out, "element", violation.getElement());
+    this.out.append(',');
+    writeString(this.out, "line");
+    this.out.append(':').append(String.valueOf(violation.getLine())).append(',');
+    writeString(this.out, "column");
+    this.out.append(':').append(String.valueOf(violation.getColumn())).append(',');
+    writeProperty(this.out, "message", violation.getMessage());
+    this.out.append(',');
+    writeString(this.out, "expected");
+    this.out.append(':');
+    writeStrings(this.out, violation.getExpected());
+    this.out.append(',');
+    writeString(this.out, "actual");
+    this.out.append(':');
+    writeStrings(this.out, violation.getActual());
+    this.out.append("}\n");
+    this.out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.out.flush();
+  }
+}
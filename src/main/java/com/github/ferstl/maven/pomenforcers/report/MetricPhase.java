@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+/**
+ * Phases of an enforcer rule execution for which {@link RuleMetrics} and flight recorder events are recorded. The
+ * phases may be nested, e.g. {@link #ENFORCE} contains {@link #MATCH} and {@link #ORDER}.
+ */
+public enum MetricPhase {
+  /**
+   * Reading the POM file, including the binding of the project model.
+   */
+  PARSE,
+  /**
+   * Binding the project model while reading the POM. This phase is part of {@link #PARSE}.
+   */
+  BIND,
+  /**
+   * Matching the declared artifacts with the resolved artifacts of the project.
+   */
+  MATCH,
+  /**
+   * Ranking the declared elements according to the configured order.
+   */
+  ORDER,
+  /**
+   * Execution of the rule.
+   */
+  ENFORCE,
+  /**
+   * Rendering and writing the reports.
+   */
+  REPORT,
+  /**
+   * Creating a side-by-side diff while rendering a report. Only recorded as flight recorder event.
+   */
+  DIFF
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Supported formats of violation reports.
+ */
+public enum ReportFormat {
+  /**
+   * One JSON object per violation and line.
+   */
+  JSONL("jsonl") {
+    @Override
+    public ViolationWriter createWriter(Writer out) {
+      return new JsonLinesViolationWriter(out);
+    }
+  },
+
+  /**
+   * Static Analysis Results Interchange Format 2.1.0.
+   */
+  SARIF("sarif") {
+    @Override
+    public ViolationWriter createWriter(Writer out) throws IOException {
+      return new SarifViolationWriter(out);
+    }
+  },
+
+  /**
+   * JUnit XML with one failed test case per violation.
+   */
+  JUNIT("xml") {
+    @Override
+    public ViolationWriter createWriter(Writer out) throws IOException {
+      return new JUnitViolationWriter(out);
+    }
+  };
+
+  private final String fileExtension;
+
+  ReportFormat(String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+
+  public static ReportFormat getByName(String name) {
+    try {
+      return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unsupported report format: " + name);
+    }
+  }
+
+  public String getFileExtension() {
+    return this.fileExtension;
+  }
+
+  public abstract ViolationWriter createWriter(Writer out) throws IOException;
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeProperty;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeString;
+
+/**
+ * Records the wall time, the CPU time and the allocated bytes of each {@link MetricPhase phase} per module and rule.
+ * CPU time and allocations are measured with the {@link ThreadMXBean} for the thread that executes a phase. They are
+ * reported as <code>-1</code> if the JVM does not support these measurements. This class is thread-safe.
+ */
+public final class RuleMetrics {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  // Innermost measurement of the current thread, used by measureNested()
+  private static final ThreadLocal<Measurement> CURRENT_MEASUREMENT = new ThreadLocal<>();
+  private static final Comparator<Key> KEY_ORDER = Comparator.comparing((Key key) -> key.module)
+      .thenComparing(key -> key.rule)
+      .thenComparing(key -> key.phase);
+
+  private final Map<Key, Totals> totals = new ConcurrentHashMap<>();
+
+  /**
+   * Executes the given action and records its resource usage.
+   *
+   * @param module Coordinates (<code>groupId:artifactId</code>) of the module.
+   * @param rule The rule.
+   * @param phase The phase.
+   * @param action The action.
+   * @param <T> Result type of the action.
+   * @return The result of the action.
+   */
+  public <T> T measure(String module, PedanticEnforcerRule rule, MetricPhase phase, Supplier<T> action) {
+    Measurement enclosingMeasurement = CURRENT_MEASUREMENT.get();
+    CURRENT_MEASUREMENT.set(new Measurement(this, module, rule));
+
+    long wallTime = System.nanoTime();
+    long cpuTime = cpuTime();
+    long allocatedBytes = allocatedBytes();
+    try {
+      return action.get();
+    } finally {
+      if (enclosingMeasurement != null) {
+        CURRENT_MEASUREMENT.set(enclosingMeasurement);
+      } else {
+        CURRENT_MEASUREMENT.remove();
+      }
+
+      Totals phaseTotals = this.totals.computeIfAbsent(new Key(module, rule, phase), key -> new Totals());
+      phaseTotals.add(
+          System.nanoTime() - wallTime,
+          cpuTime >= 0 ? cpuTime() - cpuTime : -1,
+          allocatedBytes >= 0 ? allocatedBytes() - allocatedBytes : -1);
+    }
+  }
+
+  /**
+   * Executes the given action and records its resource usage for the module and rule of the enclosing
+   * {@link #measure(String, PedanticEnforcerRule, MetricPhase, Supplier) measurement} on the current thread. This
+   * allows code that does not know the module and the rule, e.g. the POM reader, to record nested phases. Nothing is
+   * recorded if there is no enclosing measurement.
+   *
+   * @param phase The phase.
+   * @param action The action.
+   * @param <T> Result type of the action.
+   * @return The result of the action.
+   */
+  public static <T> T measureNested(MetricPhase phase, Supplier<T> action) {
+    Measurement enclosingMeasurement = CURRENT_MEASUREMENT.get();
+    return enclosingMeasurement != null
+        ? enclosingMeasurement.metrics.measure(enclosingMeasurement.module, enclosingMeasurement.rule, phase, action)
+        : action.get();
+  }
+
+  public boolean isEmpty() {
+    return this.totals.isEmpty();
+  }
+
+  /**
+   * Creates a table with the recorded metrics for the build log.
+   *
+   * @return The table.
+   */
+  public String toTable() {
+    List<String[]> rows = new ArrayList<>();
+    rows.add(new String[]{"Module", "Rule", "Phase", "Calls", "Wall [ms]", "CPU [ms]", "Allocated [KiB]"});
+    for (Map.Entry<Key, Totals> entry : sortedEntries()) {
+      Key key = entry.getKey();
+      Totals value = entry.getValue();
+      synchronized (value) {
+        rows.add(new String[]{
+            key.module,
+            key.rule.name(),
+            key.phase.name(),
+            String.valueOf(value.count),
+            formatMillis(value.wallNanos),
+            formatMillis(value.cpuNanos),
+            value.allocatedBytes >= 0 ? String.valueOf(value.allocatedBytes / 1024) : "n/a"});
+      }
+    }
+
+    int[] widths = new int[rows.get(0).length];
+    for (String[] row : rows) {
+      for (int i = 0; i < row.length; i++) {
+        widths[i] = Math.max(widths[i], row[i].length());
+      }
+    }
+
+    StringBuilder sb = new StringBuilder();
+    for (String[] row : rows) {
+      for (int i = 0; i < row.length; i++) {
+        // Text columns are left-aligned, numbers are right-aligned
+        String format = i < 3 ? "%-" + widths[i] + "s" : "%" + widths[i] + "s";
+        sb.append(i > 0 ? "  " : "").append(String.format(format, row[i]));
+      }
+      sb.append('\n');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes the recorded metrics as JSON Lines, i.e. one JSON object per module, rule and phase.
+   *
+   * @param out The output.
+   * @throws IOException If writing fails.
+   */
+  public void writeTo(Appendable out) throws IOException {
+    for (Map.Entry<Key, Totals> entry : sortedEntries()) {
+      Key key = entry.getKey();
+      Totals value = entry.getValue();
+      synchronized (value) {
+        out.append('{');
+        writeProperty(out, "module", key.module);
+        out.append(',');
+        writeProperty(out, "rule", key.rule.name());
+        out.append(',');
+        writeProperty(out, "phase", key.phase.name());
+        out.append(',');
+        writeNumber(out, "count", value.count);
+        out.append(',');
+        writeNumber(out, "wallNanos", value.wallNanos);
+        out.append(',');
+        writeNumber(out, "cpuNanos", value.cpuNanos);
+        out.append(',');
+        writeNumber(out, "allocatedBytes", value.allocatedBytes);
+        out.append("}\n");
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toTable();
+  }
+
+  private List<Map.Entry<Key, Totals>> sortedEntries() {
+    List<Map.Entry<Key, Totals>> entries = new ArrayList<>(this.totals.entrySet());
+    entries.sort(Map.Entry.comparingByKey(KEY_ORDER));
+    return entries;
+  }
+
+  private static void writeNumber(Appendable out, String name, long value) throws IOException {
+    writeString(out, name);
+    out.append(':').append(String.valueOf(value));
+  }
+
+  private static String formatMillis(long nanos) {
+    return nanos >= 0 ? String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0) : "n/a";
+  }
+
+  private static long cpuTime() {
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+  }
+
+  private static long allocatedBytes() {
+    return AllocationCounter.SUPPORTED ? AllocationCounter.currentThreadAllocatedBytes() : -1;
+  }
+
+  private static final class Measurement {
+
+    private final RuleMetrics metrics;
+    private final String module;
+    private final PedanticEnforcerRule rule;
+
+    Measurement(RuleMetrics metrics, String module, PedanticEnforcerRule rule) {
+      this.metrics = metrics;
+      this.module = module;
+      this.rule = rule;
+    }
+  }
+
+  private static final class Key {
+
+    private final String module;
+    private final PedanticEnforcerRule rule;
+    private final MetricPhase phase;
+
+    Key(String module, PedanticEnforcerRule rule, MetricPhase phase) {
+      this.module = Objects.requireNonNull(module);
+      this.rule = Objects.requireNonNull(rule);
+      this.phase = Objects.requireNonNull(phase);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+
+      Key other = (Key) obj;
+      return this.module.equals(other.module) && this.rule == other.rule && this.phase == other.phase;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.module, this.rule, this.phase);
+    }
+  }
+
+  private static final class Totals {
+
+    private long count;
+    private long wallNanos;
+    private long cpuNanos;
+    private long allocatedBytes;
+
+    synchronized void add(long wallNanos, long cpuNanos, long allocatedBytes) {
+      // Unsupported measurements stay at -1
+      this.cpuNanos = this.count == 0 || this.cpuNanos >= 0 && cpuNanos >= 0 ? this.cpuNanos + cpuNanos : -1;
+      this.allocatedBytes = this.count == 0 || this.allocatedBytes >= 0 && allocatedBytes >= 0
+          ? this.allocatedBytes + allocatedBytes : -1;
+      this.wallNanos += wallNanos;
+      this.count++;
+    }
+  }
+
+  /**
+   * Access to the allocation counter of HotSpot-based JVMs. The holder is only initialized when allocations are
+   * measured for the first time, so other JVMs do not need the <code>com.sun.management</code> API.
+   */
+  private static final class AllocationCounter {
+
+    static final boolean SUPPORTED = isSupported();
+
+    static long currentThreadAllocatedBytes() {
+      return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean isSupported() {
+      try {
+        return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemorySupported()
+            && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+      } catch (LinkageError e) {
+        return false;
+      }
+    }
+  }
+}
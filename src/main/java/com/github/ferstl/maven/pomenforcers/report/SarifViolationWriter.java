@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeProperty;
+import static com.github.ferstl.maven.pomenforcers.report.JsonUtils.writeString;
+
+/**
+ * Writes a SARIF 2.1.0 log with a single run. The results are streamed, i.e. each violation is written as soon as it
+ * is passed to this writer.
+ */
+final class SarifViolationWriter implements ViolationWriter {
+
+  private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+  private static final String TOOL_NAME = "pedantic-pom-enforcers";
+  private static final String INFORMATION_URI = "https://github.com/ferstl/pedantic-pom-enforcers";
+
+  private final Writer out;
+  private boolean firstResult = true;
+
+  SarifViolationWriter(Writer out) throws IOException {
+    this.out = out;
+    writeHeader();
+  }
+
+  @Override
+  public void write(Violation violation) throws IOException {
+    if (!this.firstResult) {
+      this.out.append(',');
+    }
+    this.firstResult = false;
+
+    this.out.append("\n{");
+    writeProperty(this.out, "ruleId", violation.getRule().name());
+    this.out.append(',');
+    writeProperty(this.out, "level", "error");
+    this.out.append(",\"message\":{");
+    writeProperty(this.out, "text", violation.getMessage());
+    this.out.append('}');
+
+    if (violation.getPomFile() != null) {
+      this.out.append(",\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{");
+      writeProperty(this.out, "uri", new File(violation.getPomFile()).toURI().toString());
+      this.out.append('}');
+      if (violation.getLine() > 0) {
+        this.out.append(",\"region\":{\"startLine\":").append(String.valueOf(violation.getLine()));
+        if (violation.getColumn() > 0) {
+          this.out.append(",\"startColumn\":").append(String.valueOf(violation.getColumn()));
+        }
+        this.out.append('}');
+      }
+      this.out.append("}}]");
+    }
+
+    this.out.append(",\"properties\":{");
+    writeProperty(this.out, "module", violation.getModule());
+    this.out.append(',');
+    writeProperty(this.out, "element", violation.getElement());
+    this.out.append(',');
+    writeString(this.out, "expected");
+    this.out.append(':');
+    JsonUtils.writeStrings(this.out, violation.getExpected());
+    this.out.append(',');
+    writeString(this.out, "actual");
+    this.out.append(':');
+    JsonUtils.writeStrings(this.out, violation.getActual());
+    this.out.append("}}");
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.out.append("\n]}]}\n");
+    this.out.flush();
+  }
+
+  private void writeHeader() throws IOException {
+    this.out.append('{');
+    writeProperty(this.out, "$schema", SCHEMA);
+    this.out.append(',');
+    writeProperty(this.out, "version", "2.1.0");
+    this.out.append(",\"runs\":[{\"tool\":{\"driver\":{");
+    writeProperty(this.out, "name", TOOL_NAME);
+    this.out.append(',');
+    writeProperty(this.out, "informationUri", INFORMATION_URI);
+    this.out.append(",\"rules\":[");
+
+    boolean first = true;
+    for (PedanticEnforcerRule rule : PedanticEnforcerRule.values()) {
+      if (!first) {
+        this.out.append(',');
+      }
+      first = false;
+
+      this.out.append('{');
+      writeProperty(this.out, "id", rule.name());
+      this.out.append(",\"shortDescription\":{");
+      writeProperty(this.out, "text", rule.getSlogan());
+      this.out.append("}}");
+    }
+
+    this.out.append("]}},\"results\":[");
+  }
+}
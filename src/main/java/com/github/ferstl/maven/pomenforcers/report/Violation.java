@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.util.Collections;
+import java.util.List;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A rule violation in a POM file.
+ */
+public final class Violation {
+
+  private final PedanticEnforcerRule rule;
+  private final String module;
+  private final String pomFile;
+  private final String element;
+  private final int line;
+  private final int column;
+  private final String message;
+  private final List<String> expected;
+  private final List<String> actual;
+
+  /**
+   * Constructor.
+   *
+   * @param rule The violated rule.
+   * @param module Coordinates (<code>groupId:artifactId</code>) of the module. May be {@code null}.
+   * @param pomFile Path of the POM file. May be {@code null}.
+   * @param element Path of the offending element, e.g. <code>/project/dependencies/dependency[2]</code>. May be
+   * {@code null}.
+   * @param line The line of the violation or <code>0</code> if unknown.
+   * @param column The column of the violation or <code>0</code> if unknown.
+   * @param message Description of the violation.
+   * @param expected Expected content, e.g. the required order. May be {@code null}.
+   * @param actual Actual content, e.g. the actual order. May be {@code null}.
+   */
+  public Violation(PedanticEnforcerRule rule, String module, String pomFile, String element, int line, int column,
+      String message, List<String> expected, List<String> actual) {
+    this.rule = rule;
+    this.module = module;
+    this.pomFile = pomFile;
+    this.element = element;
+    this.line = line;
+    this.column = column;
+    this.message = message;
+    this.expected = expected != null ? ImmutableList.copyOf(expected) : Collections.emptyList();
+    this.actual = actual != null ? ImmutableList.copyOf(actual) : Collections.emptyList();
+  }
+
+  public PedanticEnforcerRule getRule() {
+    return this.rule;
+  }
+
+  public String getModule() {
+    return this.module;
+  }
+
+  public String getPomFile() {
+    return this.pomFile;
+  }
+
+  public String getElement() {
+    return this.element;
+  }
+
+  public int getLine() {
+    return this.line;
+  }
+
+  public int getColumn() {
+    return this.column;
+  }
+
+  public String getMessage() {
+    return this.message;
+  }
+
+  public List<String> getExpected() {
+    return this.expected;
+  }
+
+  public List<String> getActual() {
+    return this.actual;
+  }
+
+  @Override
+  public String toString() {
+    return this.rule + " in " + this.module + " (" + this.pomFile + ":" + this.line + ":" + this.column + "): " + this.message;
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes {@link Violation}s incrementally in a machine-readable format. Closing the writer completes the document
+ * but does not close the underlying stream.
+ */
+public interface ViolationWriter extends Closeable {
+
+  void write(Violation violation) throws IOException;
+}
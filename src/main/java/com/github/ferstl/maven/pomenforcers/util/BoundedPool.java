@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Small pool for objects that are expensive to create but not thread-safe. Each thread borrows an instance for the
+ * time of a single operation and returns it afterwards. Unlike thread-local instances, pooled instances are not tied
+ * to the (possibly long-living) threads of the Maven build and the number of pooled instances is bounded.
+ *
+ * @param <T> Type of the pooled objects.
+ */
+public final class BoundedPool<T> {
+
+  private final int maximumSize;
+  private final Supplier<T> factory;
+  private final Queue<T> pool;
+  private final AtomicInteger size;
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize Maximum number of pooled instances.
+   * @param factory Creates new instances if the pool is empty.
+   */
+  public BoundedPool(int maximumSize, Supplier<T> factory) {
+    this.maximumSize = maximumSize;
+    this.factory = factory;
+    this.pool = new ConcurrentLinkedQueue<>();
+    this.size = new AtomicInteger();
+  }
+
+  /**
+   * Returns a pooled instance or a new instance if the pool is empty.
+   *
+   * @return The borrowed instance.
+   */
+  public T borrow() {
+    T instance = this.pool.poll();
+    if (instance != null) {
+      this.size.decrementAndGet();
+      return instance;
+    }
+
+    return this.factory.get();
+  }
+
+  /**
+   * Returns the given instance to the pool.
+   *
+   * @param instance The instance that is no longer used by the current thread.
+   */
+  public void release(T instance) {
+    // Excess instances are left to the garbage collector
+    if (this.size.incrementAndGet() <= this.maximumSize) {
+      this.pool.offer(instance);
+    } else {
+      this.size.decrementAndGet();
+    }
+  }
+
+  int size() {
+    return this.size.get();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * A compiled XPath expression that can be evaluated concurrently. Since {@link XPathExpression} is not thread-safe,
+ * the compiled expressions are kept in a small pool from which each evaluation borrows an instance. Use
+ * {@link XmlUtils#compileXPath(String)} to create instances.
+ */
+public final class CompiledXPath {
+
+  private final String expression;
+  private final BoundedPool<XPathExpression> compiledExpressions;
+
+  CompiledXPath(String expression) {
+    this.expression = expression;
+    this.compiledExpressions =
+        new BoundedPool<>(XmlUtils.MAX_POOLED_INSTANCES, () -> XmlUtils.compileXPathExpression(expression));
+    // Fail early on invalid expressions
+    this.compiledExpressions.release(XmlUtils.compileXPathExpression(expression));
+  }
+
+  /**
+   * Returns the XML {@link Element} matching this expression.
+   *
+   * @param document XML document to search for the element.
+   * @return The matching XML {@link Element}.
+   */
+  public Element evaluateAsElement(Document document) {
+    return evaluate(document, XPathConstants.NODE);
+  }
+
+  /**
+   * Returns the XML {@link NodeList} matching this expression.
+   *
+   * @param document XML document to search for the node list.
+   * @return The matching XML {@link NodeList}.
+   */
+  public NodeList evaluateAsNodeList(Document document) {
+    return evaluate(document, XPathConstants.NODESET);
+  }
+
+  public String getExpression() {
+    return this.expression;
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T evaluate(Document document, QName dataType) {
+    XPathExpression xPathExpression = this.compiledExpressions.borrow();
+    try {
+      return (T) xPathExpression.evaluate(document, dataType);
+    } catch (XPathExpressionException e) {
+      throw new IllegalArgumentException("Cannot evaluate XPath expression '" + this.expression + "'", e);
+    } finally {
+      this.compiledExpressions.release(xPathExpression);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.expression;
+  }
+}
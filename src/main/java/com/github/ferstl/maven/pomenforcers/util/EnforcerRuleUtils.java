@@ -15,38 +15,20 @@
  */
 package com.github.ferstl.maven.pomenforcers.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
-import com.google.common.base.Strings;
 
 public final class EnforcerRuleUtils {
 
-  private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{.*?}");
-
+  /**
+   * Replaces all <code>${...}</code> placeholders in the given string. Use a {@link PropertyInterpolator} when the same
+   * properties are resolved repeatedly.
+   *
+   * @param input The string to interpolate. May be {@code null}.
+   * @param helper The expression evaluator.
+   * @return The interpolated string.
+   */
   public static String evaluateProperties(String input, ExpressionEvaluator helper) {
-    if (!Strings.isNullOrEmpty(input)) {
-      Matcher matcher = PROPERTY_PATTERN.matcher(input);
-      StringBuffer substituted = new StringBuffer();
-      while (matcher.find()) {
-        String property = matcher.group();
-        matcher.appendReplacement(substituted, evaluateStringProperty(property, helper));
-      }
-      matcher.appendTail(substituted);
-      return substituted.toString();
-    }
-    return input;
-  }
-
-  private static String evaluateStringProperty(String property, ExpressionEvaluator helper) {
-    try {
-      return (String) helper.evaluate(property);
-    } catch (ExpressionEvaluationException e) {
-      throw new IllegalArgumentException("Unable to resolve property " + property);
-    } catch (ClassCastException e) {
-      throw new IllegalArgumentException("Property " + property + " does not evaluate to a String");
-    }
+    return PropertyInterpolator.interpolate(input, helper);
   }
 
   private EnforcerRuleUtils() {
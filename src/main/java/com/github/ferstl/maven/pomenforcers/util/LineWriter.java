@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Writer that passes each written line to a consumer, e.g. to a logger. Line terminators are not passed to the
+ * consumer. An unterminated last line is passed on {@link #flush()} or {@link #close()}.
+ */
+public final class LineWriter extends Writer {
+
+  private final Consumer<String> consumer;
+  private final StringBuilder line;
+
+  public LineWriter(Consumer<String> consumer) {
+    this.consumer = consumer;
+    this.line = new StringBuilder();
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) {
+    int end = off + len;
+    for (int i = off; i < end; i++) {
+      char c = cbuf[i];
+      if (c == '\n') {
+        emitLine();
+      } else if (c != '\r') {
+        this.line.append(c);
+      }
+    }
+  }
+
+  @Override
+  public void flush() {
+    if (this.line.length() > 0) {
+      emitLine();
+    }
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private void emitLine() {
+    this.consumer.accept(this.line.toString());
+    this.line.setLength(0);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.google.common.collect.Lists;
+
+/**
+ * {@link ExpressionEvaluator} that resolves properties from raw POM files without a Maven session. It knows the
+ * properties of the POM and of its parent POMs, the basic project coordinates (<code>project.*</code>), system
+ * properties and environment variables (<code>env.*</code>). Unknown properties are not resolved, i.e. the expression
+ * evaluates to itself. This is sufficient to compare declared and resolved artifacts since both are resolved in the
+ * same way.
+ */
+public final class LocalExpressionEvaluator implements ExpressionEvaluator {
+
+  private static final int MAX_NESTING = 16;
+  private static final String[] PROJECT_PREFIXES = {"project.", "pom.", ""};
+
+  private final Map<String, String> values;
+  private final File basedir;
+
+  /**
+   * Constructor.
+   *
+   * @param lineage The model of the project followed by the models of its parents.
+   * @param basedir Base directory of the project.
+   */
+  public LocalExpressionEvaluator(List<Model> lineage, File basedir) {
+    this.basedir = basedir;
+    this.values = new HashMap<>();
+
+    // Environment variables < model properties (child overrides parent) < system properties < project coordinates
+    System.getenv().forEach((name, value) -> this.values.put("env." + name, value));
+    for (Model model : Lists.reverse(lineage)) {
+      putAll(model.getProperties());
+    }
+    putAll(System.getProperties());
+    putProjectValues(lineage.get(0), basedir);
+  }
+
+  @Override
+  public Object evaluate(String expression) {
+    return expression != null ? interpolate(expression, 0) : null;
+  }
+
+  @Override
+  public File alignToBaseDirectory(File file) {
+    if (file == null || file.isAbsolute() || this.basedir == null) {
+      return file;
+    }
+    return new File(this.basedir, file.getPath());
+  }
+
+  private String interpolate(String expression, int nesting) {
+    int start = expression.indexOf("${");
+    if (start < 0 || nesting > MAX_NESTING) {
+      return expression;
+    }
+
+    StringBuilder result = new StringBuilder(expression.length());
+    int position = 0;
+    while (start >= 0) {
+      int end = expression.indexOf('}', start + 2);
+      if (end < 0) {
+        break;
+      }
+
+      result.append(expression, position, start);
+      String value = this.values.get(expression.substring(start + 2, end));
+      result.append(value != null ? interpolate(value, nesting + 1) : expression.substring(start, end + 1));
+      position = end + 1;
+      start = expression.indexOf("${", position);
+    }
+
+    return result.append(expression, position, expression.length()).toString();
+  }
+
+  private void putAll(Properties properties) {
+    for (String name : properties.stringPropertyNames()) {
+      this.values.put(name, properties.getProperty(name));
+    }
+  }
+
+  private void putProjectValues(Model model, File basedir) {
+    Parent parent = model.getParent();
+    String groupId = model.getGroupId() != null || parent == null ? model.getGroupId() : parent.getGroupId();
+    String version = model.getVersion() != null || parent == null ? model.getVersion() : parent.getVersion();
+
+    for (String prefix : PROJECT_PREFIXES) {
+      putIfNotNull(prefix + "groupId", groupId);
+      putIfNotNull(prefix + "artifactId", model.getArtifactId());
+      putIfNotNull(prefix + "version", version);
+    }
+    putIfNotNull("project.packaging", model.getPackaging());
+    putIfNotNull("project.name", model.getName());
+    if (parent != null) {
+      putIfNotNull("project.parent.groupId", parent.getGroupId());
+      putIfNotNull("project.parent.artifactId", parent.getArtifactId());
+      putIfNotNull("project.parent.version", parent.getVersion());
+    }
+    if (basedir != null) {
+      putIfNotNull("basedir", basedir.getAbsolutePath());
+      putIfNotNull("project.basedir", basedir.getAbsolutePath());
+    }
+  }
+
+  private void putIfNotNull(String name, String value) {
+    if (value != null) {
+      this.values.put(name, value);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import difflib.ChangeDelta;
+import difflib.Chunk;
+import difflib.DeleteDelta;
+import difflib.Delta;
+import difflib.DiffAlgorithm;
+import difflib.InsertDelta;
+import difflib.Patch;
+import difflib.myers.MyersDiff;
+
+/**
+ * Patience diff. Lines that occur exactly once in both sequences are used as anchors, and the longest sequence of
+ * anchors that is in the same order in both sequences is kept unchanged. The ranges between the anchors are diffed
+ * the same way. This is well suited for reordered lists, where most lines are unique, and runs in
+ * O(n log n) for such lists.
+ * <p>
+ * Ranges without any unique common line are diffed with the Myers algorithm if the product of their sizes does not
+ * exceed the configured cost. Larger ranges are reported as a single change, so the cost of a diff stays bounded.
+ * </p>
+ *
+ * @param <T> Type of the lines.
+ */
+final class PatienceDiff<T> implements DiffAlgorithm<T> {
+
+  private final long maxMyersCost;
+
+  PatienceDiff(long maxMyersCost) {
+    this.maxMyersCost = maxMyersCost;
+  }
+
+  @Override
+  public Patch<T> diff(T[] original, T[] revised) {
+    return diff(Arrays.asList(original), Arrays.asList(revised));
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    Patch<T> patch = new Patch<>();
+
+    // Ranges are processed iteratively to avoid deep recursion on large lists
+    Deque<int[]> ranges = new ArrayDeque<>();
+    ranges.push(new int[]{0, original.size(), 0, revised.size()});
+    while (!ranges.isEmpty()) {
+      int[] range = ranges.pop();
+      diffRange(original, revised, range[0], range[1], range[2], range[3], patch, ranges);
+    }
+
+    return patch;
+  }
+
+  private void diffRange(List<T> original, List<T> revised, int originalStart, int originalEnd, int revisedStart, int revisedEnd,
+      Patch<T> patch, Deque<int[]> ranges) {
+    // Skip common prefix and suffix
+    while (originalStart < originalEnd && revisedStart < revisedEnd && original.get(originalStart).equals(revised.get(revisedStart))) {
+      originalStart++;
+      revisedStart++;
+    }
+    while (originalStart < originalEnd && revisedStart < revisedEnd && original.get(originalEnd - 1).equals(revised.get(revisedEnd - 1))) {
+      originalEnd--;
+      revisedEnd--;
+    }
+
+    if (originalStart == originalEnd && revisedStart == revisedEnd) {
+      return;
+    }
+    if (originalStart == originalEnd || revisedStart == revisedEnd) {
+      addDelta(patch, original, originalStart, originalEnd, revised, revisedStart, revisedEnd);
+      return;
+    }
+
+    List<int[]> anchors = findAnchors(original, originalStart, originalEnd, revised, revisedStart, revisedEnd);
+    if (anchors.isEmpty()) {
+      diffWithoutAnchors(original, originalStart, originalEnd, revised, revisedStart, revisedEnd, patch);
+      return;
+    }
+
+    int previousOriginal = originalStart;
+    int previousRevised = revisedStart;
+    for (int[] anchor : anchors) {
+      ranges.push(new int[]{previousOriginal, anchor[0], previousRevised, anchor[1]});
+      previousOriginal = anchor[0] + 1;
+      previousRevised = anchor[1] + 1;
+    }
+    ranges.push(new int[]{previousOriginal, originalEnd, previousRevised, revisedEnd});
+  }
+
+  private void diffWithoutAnchors(List<T> original, int originalStart, int originalEnd, List<T> revised, int revisedStart, int revisedEnd, Patch<T> patch) {
+    long cost = (long) (originalEnd - originalStart) * (revisedEnd - revisedStart);
+    if (cost > this.maxMyersCost) {
+      addDelta(patch, original, originalStart, originalEnd, revised, revisedStart, revisedEnd);
+      return;
+    }
+
+    Patch<T> rangePatch = new MyersDiff<T>().diff(original.subList(originalStart, originalEnd), revised.subList(revisedStart, revisedEnd));
+    for (Delta<T> delta : rangePatch.getDeltas()) {
+      Chunk<T> originalChunk = new Chunk<>(delta.getOriginal().getPosition() + originalStart, delta.getOriginal().getLines());
+      Chunk<T> revisedChunk = new Chunk<>(delta.getRevised().getPosition() + revisedStart, delta.getRevised().getLines());
+      patch.addDelta(createDelta(originalChunk, revisedChunk));
+    }
+  }
+
+  /**
+   * Finds the longest sequence of lines that occur exactly once in both ranges and that are in the same order in both
+   * ranges.
+   *
+   * @return The positions of the anchors as pairs of original and revised position, in ascending order.
+   */
+  private List<int[]> findAnchors(List<T> original, int originalStart, int originalEnd, List<T> revised, int revisedStart, int revisedEnd) {
+    Map<T, int[]> occurrences = new HashMap<>();
+    for (int i = originalStart; i < originalEnd; i++) {
+      // [count in original, count in revised, position in original, position in revised]
+      int[] occurrence = occurrences.computeIfAbsent(original.get(i), k -> new int[]{0, 0, -1, -1});
+      occurrence[0]++;
+      occurrence[2] = i;
+    }
+    for (int i = revisedStart; i < revisedEnd; i++) {
+      int[] occurrence = occurrences.get(revised.get(i));
+      if (occurrence != null) {
+        occurrence[1]++;
+        occurrence[3] = i;
+      }
+    }
+
+    // Revised positions of the unique common lines in the order of the original range
+    List<int[]> candidates = new ArrayList<>();
+    for (int i = originalStart; i < originalEnd; i++) {
+      int[] occurrence = occurrences.get(original.get(i));
+      if (occurrence[0] == 1 && occurrence[1] == 1) {
+        candidates.add(new int[]{occurrence[2], occurrence[3]});
+      }
+    }
+
+    return longestIncreasingSubsequence(candidates);
+  }
+
+  /**
+   * Patience sorting on the revised positions of the candidates.
+   */
+  private static List<int[]> longestIncreasingSubsequence(List<int[]> candidates) {
+    int[] pileTops = new int[candidates.size()];
+    int[] predecessors = new int[candidates.size()];
+    int piles = 0;
+
+    for (int i = 0; i < candidates.size(); i++) {
+      int revisedPosition = candidates.get(i)[1];
+      int low = 0;
+      int high = piles;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (candidates.get(pileTops[middle])[1] < revisedPosition) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+
+      predecessors[i] = low > 0 ? pileTops[low - 1] : -1;
+      pileTops[low] = i;
+      if (low == piles) {
+        piles++;
+      }
+    }
+
+    if (piles == 0) {
+      return Collections.emptyList();
+    }
+
+    List<int[]> result = new ArrayList<>(piles);
+    for (int i = pileTops[piles - 1]; i >= 0; i = predecessors[i]) {
+      result.add(candidates.get(i));
+    }
+    Collections.reverse(result);
+    return result;
+  }
+
+  private static <T> void addDelta(Patch<T> patch, List<T> original, int originalStart, int originalEnd, List<T> revised, int revisedStart, int revisedEnd) {
+    Chunk<T> originalChunk = new Chunk<>(originalStart, new ArrayList<>(original.subList(originalStart, originalEnd)));
+    Chunk<T> revisedChunk = new Chunk<>(revisedStart, new ArrayList<>(revised.subList(revisedStart, revisedEnd)));
+    patch.addDelta(createDelta(originalChunk, revisedChunk));
+  }
+
+  private static <T> Delta<T> createDelta(Chunk<T> originalChunk, Chunk<T> revisedChunk) {
+    if (originalChunk.size() == 0) {
+      return new InsertDelta<>(originalChunk, revisedChunk);
+    } else if (revisedChunk.size() == 0) {
+      return new DeleteDelta<>(originalChunk, revisedChunk);
+    }
+    return new ChangeDelta<>(originalChunk, revisedChunk);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Resolves <code>${...}</code> placeholders in strings. Strings without placeholders are returned as they are
+ * without any further work. Placeholders are found in a single pass over the string and each resolved placeholder is
+ * remembered in a bounded memo, so the {@link ExpressionEvaluator} is called only once per distinct placeholder.
+ * <p>
+ * Since property values may change between plugin executions, an interpolator should only be used within a single
+ * enforcer execution.
+ * </p>
+ */
+public final class PropertyInterpolator {
+
+  private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+  private final ExpressionEvaluator helper;
+  private final Cache<String, String> memo;
+  private final LongAdder skipCount = new LongAdder();
+
+  public PropertyInterpolator(ExpressionEvaluator helper) {
+    this(helper, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public PropertyInterpolator(ExpressionEvaluator helper, int maximumSize) {
+    this.helper = Objects.requireNonNull(helper);
+    this.memo = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Replaces all placeholders in the given string with their values.
+   *
+   * @param input The string to interpolate. May be {@code null}.
+   * @return The interpolated string.
+   * @throws IllegalArgumentException if a placeholder cannot be resolved to a string.
+   */
+  public String interpolate(String input) {
+    int start = input != null ? input.indexOf("${") : -1;
+    if (start < 0) {
+      this.skipCount.increment();
+      return input;
+    }
+
+    return interpolate(input, start, this::resolveMemoized);
+  }
+
+  /**
+   * Returns the number of placeholders that were resolved from the memo.
+   *
+   * @return The number of memo hits.
+   */
+  public long getHitCount() {
+    return this.memo.stats().hitCount();
+  }
+
+  /**
+   * Returns the number of placeholders that had to be resolved by the expression evaluator.
+   *
+   * @return The number of memo misses.
+   */
+  public long getMissCount() {
+    return this.memo.stats().missCount();
+  }
+
+  /**
+   * Returns the number of strings that did not contain any placeholder.
+   *
+   * @return The number of strings that took the fast path.
+   */
+  public long getSkipCount() {
+    return this.skipCount.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyInterpolator[hits=" + getHitCount() + ", misses=" + getMissCount() + ", skipped=" + getSkipCount() + "]";
+  }
+
+  static String interpolate(String input, ExpressionEvaluator helper) {
+    int start = input != null ? input.indexOf("${") : -1;
+    if (start < 0) {
+      return input;
+    }
+
+    return interpolate(input, start, property -> resolve(property, helper));
+  }
+
+  private static String interpolate(String input, int firstStart, Resolver resolver) {
+    StringBuilder result = new StringBuilder(input.length() + 16);
+    int position = 0;
+    int start = firstStart;
+
+    while (start >= 0) {
+      int end = input.indexOf('}', start + 2);
+      if (end < 0) {
+        break;
+      }
+
+      result.append(input, position, start);
+      result.append(resolver.resolve(input.substring(start, end + 1)));
+      position = end + 1;
+      start = input.indexOf("${", position);
+    }
+
+    return result.append(input, position, input.length()).toString();
+  }
+
+  private String resolveMemoized(String property) {
+    try {
+      return this.memo.get(property, () -> resolve(property, this.helper));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static String resolve(String property, ExpressionEvaluator helper) {
+    Object value;
+    try {
+      value = helper.evaluate(property);
+    } catch (ExpressionEvaluationException e) {
+      throw new IllegalArgumentException("Unable to resolve property " + property);
+    }
+
+    if (value == null) {
+      throw new IllegalArgumentException("Unable to resolve property " + property);
+    }
+    if (!(value instanceof String)) {
+      throw new IllegalArgumentException("Property " + property + " does not evaluate to a String");
+    }
+    return (String) value;
+  }
+
+  @FunctionalInterface
+  private interface Resolver {
+
+    String resolve(String property);
+  }
+}
@@ -15,21 +15,65 @@
  */
 package com.github.ferstl.maven.pomenforcers.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import com.google.common.base.Strings;
 import difflib.Chunk;
 import difflib.Delta;
-import difflib.DiffUtils;
 
 
 public final class SideBySideDiffUtil {
 
+  /**
+   * Default maximum number of changed lines for which a side-by-side diff is created.
+   */
+  public static final int DEFAULT_MAX_CHANGES = 1000;
+
+  /**
+   * Maximum product of the sizes of two ranges without common unique lines that are diffed with the Myers algorithm.
+   */
+  private static final long MAX_MYERS_COST = 250_000L;
+
+  /**
+   * Maximum number of lines that are listed when the side-by-side diff is omitted.
+   */
+  private static final int MAX_LISTED_LINES = 100;
+
   public static String diff(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle) {
+    return diff(actual, required, leftTitle, rightTitle, DEFAULT_MAX_CHANGES);
+  }
+
+  /**
+   * Creates a side-by-side diff of the given texts. If more than <code>maxChanges</code> lines are changed, only the
+   * moved, removed and added lines are listed instead of the side-by-side diff. At most 100 of these lines are listed.
+   * Ranges without common unique lines are diffed with the Myers algorithm only if the product of their sizes does not
+   * exceed the square of <code>maxChanges</code>, so lower limits also reduce the cost of the diff.
+   *
+   * @param actual The actual text.
+   * @param required The required text.
+   * @param leftTitle Title of the actual text.
+   * @param rightTitle Title of the required text.
+   * @param maxChanges Maximum number of changed lines for a side-by-side diff.
+   * @return The diff.
+   */
+  public static String diff(Collection<String> actual, Collection<String> required, String leftTitle, String rightTitle, int maxChanges) {
+    List<String> actualList = actual instanceof List ? (List<String>) actual : new ArrayList<>(actual);
+    List<String> requiredList = required instanceof List ? (List<String>) required : new ArrayList<>(required);
+    long maxMyersCost = Math.min(MAX_MYERS_COST, (long) maxChanges * maxChanges);
+    List<Delta<String>> deltas = new PatienceDiff<String>(maxMyersCost).diff(actualList, requiredList).getDeltas();
+
+    int changes = countChanges(deltas);
+    if (changes > maxChanges) {
+      return movedLines(deltas, leftTitle, rightTitle, changes, maxChanges);
+    }
 
-    SideBySideContext context = new SideBySideContext(actual, required, leftTitle, rightTitle);
+    SideBySideContext context = new SideBySideContext(actualList, requiredList, deltas, leftTitle, rightTitle);
     int offset = 0;
 
     for (Delta<String> delta : context.deltas) {
@@ -69,6 +113,83 @@ public final class SideBySideDiffUtil {
     return context.toString();
   }
 
+  private static int countChanges(List<Delta<String>> deltas) {
+    int changes = 0;
+    for (Delta<String> delta : deltas) {
+      changes += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return changes;
+  }
+
+  /**
+   * Lists the lines that were moved, removed or added. Moved lines are lines that were removed and added again. At
+   * most {@link #MAX_LISTED_LINES} lines are listed.
+   */
+  private static String movedLines(List<Delta<String>> deltas, String leftTitle, String rightTitle, int changes, int maxChanges) {
+    // Positions of added lines by content
+    Map<String, Deque<Integer>> addedLines = new LinkedHashMap<>();
+    for (Delta<String> delta : deltas) {
+      Chunk<String> revised = delta.getRevised();
+      for (int i = 0; i < revised.size(); i++) {
+        addedLines.computeIfAbsent(revised.getLines().get(i), k -> new ArrayDeque<>()).add(revised.getPosition() + i + 1);
+      }
+    }
+
+    List<String> moved = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    for (Delta<String> delta : deltas) {
+      Chunk<String> original = delta.getOriginal();
+      for (int i = 0; i < original.size(); i++) {
+        String line = original.getLines().get(i);
+        Deque<Integer> positions = addedLines.get(line);
+        if (positions != null && !positions.isEmpty()) {
+          moved.add("  " + line + ": " + (original.getPosition() + i + 1) + " -> " + positions.poll());
+        } else {
+          removed.add("- " + line);
+        }
+      }
+    }
+
+    List<String> added = new ArrayList<>();
+    for (Map.Entry<String, Deque<Integer>> entry : addedLines.entrySet()) {
+      for (int i = 0; i < entry.getValue().size(); i++) {
+        added.add("+ " + entry.getKey());
+      }
+    }
+
+    StringBuilder sb = new StringBuilder()
+        .append("Diff omitted (").append(changes).append(" changed lines exceed the limit of ").append(maxChanges).append(")");
+    String positions = leftTitle.isEmpty() && rightTitle.isEmpty() ? "" : " (" + leftTitle + " -> " + rightTitle + ")";
+    int remaining = MAX_LISTED_LINES;
+    remaining -= appendLines(sb, "Moved lines" + positions + ":", moved, remaining);
+    remaining -= appendLines(sb, "Removed lines:", removed, remaining);
+    appendLines(sb, "Added lines:", added, remaining);
+
+    return sb.toString();
+  }
+
+  /**
+   * Appends the given lines with a header. If there are more lines than the given limit, only the number of the
+   * omitted lines is appended for the remaining lines.
+   *
+   * @return The number of appended lines.
+   */
+  private static int appendLines(StringBuilder sb, String header, List<String> lines, int limit) {
+    if (lines.isEmpty()) {
+      return 0;
+    }
+
+    sb.append("\n").append(header);
+    int listed = Math.min(lines.size(), limit);
+    for (int i = 0; i < listed; i++) {
+      sb.append("\n").append(lines.get(i));
+    }
+    if (listed < lines.size()) {
+      sb.append("\n").append("  ... ").append(lines.size() - listed).append(" more");
+    }
+    return listed;
+  }
+
   private SideBySideDiffUtil() {
     throw new AssertionError("not instantiable");
   }
@@ -91,13 +212,10 @@ public final class SideBySideDiffUtil {
     private final List<String> left;
     private final List<String> right;
 
-    public SideBySideContext(Collection<String> original, Collection<String> revised, String leftTitle, String rightTitle) {
+    public SideBySideContext(List<String> original, List<String> revised, List<Delta<String>> deltas, String leftTitle, String rightTitle) {
       this.leftTitle = leftTitle;
       this.rightTitle = rightTitle;
-      List<String> originalList = original instanceof List ? (List<String>) original : new ArrayList<>(original);
-      List<String> revisedList = revised instanceof List ? (List<String>) revised : new ArrayList<>(revised);
-
-      this.deltas = DiffUtils.diff(originalList, revisedList).getDeltas();
+      this.deltas = deltas;
       this.leftWidth = Math.max(getMaxWidth(original) + 2, leftTitle.length()); // +2: include the markers
       this.rightWidth = Math.max(getMaxWidth(revised) + 2, rightTitle.length()); // +2: include the markers
 
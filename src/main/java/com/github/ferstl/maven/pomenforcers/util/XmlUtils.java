@@ -15,6 +15,7 @@
  */
 package com.github.ferstl.maven.pomenforcers.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import javax.xml.namespace.QName;
@@ -31,9 +32,33 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
+/**
+ * XML utilities. The {@link DocumentBuilderFactory} and the {@link XPathFactory} are created only once since both
+ * are looked up via the service loader mechanism. Neither the created {@link DocumentBuilder}s nor compiled
+ * {@link XPathExpression}s are thread-safe, so they are kept in small pools from which each thread borrows an
+ * instance for the time of a single operation.
+ */
 public final class XmlUtils {
 
+  private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+  private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
+
+  static final int MAX_POOLED_INSTANCES = 16;
+
+  private static final BoundedPool<DocumentBuilder> DOCUMENT_BUILDERS =
+      new BoundedPool<>(MAX_POOLED_INSTANCES, XmlUtils::newDocumentBuilder);
+  private static final BoundedPool<XPath> XPATHS = new BoundedPool<>(MAX_POOLED_INSTANCES, XmlUtils::newXPath);
+
+  /**
+   * Registry of compiled XPath expressions, used for expressions that are evaluated by their string representation.
+   */
+  private static final Cache<String, CompiledXPath> XPATH_REGISTRY = CacheBuilder.newBuilder()
+      .maximumSize(256)
+      .build();
+
   /**
    * Parses the given file into an XML {@link Document}.
    *
@@ -44,11 +69,30 @@ public final class XmlUtils {
     if (!file.exists()) {
       throw new IllegalArgumentException("File " + file + " does not exist.");
     }
+    DocumentBuilder docBuilder = DOCUMENT_BUILDERS.borrow();
     try {
-      DocumentBuilder docBuilder = createDocumentBuilder();
       return docBuilder.parse(file);
     } catch (SAXException | IOException e) {
       throw new IllegalStateException("Unable to parse XML file " + file, e);
+    } finally {
+      releaseDocumentBuilder(docBuilder);
+    }
+  }
+
+  /**
+   * Parses the given XML content into an XML {@link Document}.
+   *
+   * @param content The XML content to parse.
+   * @return The created XML {@link Document}.
+   */
+  public static Document parseXml(byte[] content) {
+    DocumentBuilder docBuilder = DOCUMENT_BUILDERS.borrow();
+    try {
+      return docBuilder.parse(new ByteArrayInputStream(content));
+    } catch (SAXException | IOException e) {
+      throw new IllegalStateException("Unable to parse XML content", e);
+    } finally {
+      releaseDocumentBuilder(docBuilder);
     }
   }
 
@@ -82,8 +126,13 @@ public final class XmlUtils {
    * @return The created XML document.
    */
   public static Document createDocument(String root, NodeList content) {
-    DocumentBuilder docBuilder = createDocumentBuilder();
-    Document document = docBuilder.newDocument();
+    DocumentBuilder docBuilder = DOCUMENT_BUILDERS.borrow();
+    Document document;
+    try {
+      document = docBuilder.newDocument();
+    } finally {
+      releaseDocumentBuilder(docBuilder);
+    }
     Element rootElement = document.createElement(root);
     document.appendChild(rootElement);
 
@@ -95,26 +144,59 @@ public final class XmlUtils {
     return document;
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> T evaluateXpath(String expression, Document document, QName dataType) {
+  /**
+   * Compiles the given XPath expression. The returned instance is thread-safe and is meant to be kept in a constant.
+   *
+   * @param expression XPath expression.
+   * @return The compiled XPath expression.
+   * @throws IllegalArgumentException if the expression is invalid.
+   */
+  public static CompiledXPath compileXPath(String expression) {
+    return new CompiledXPath(expression);
+  }
+
+  static XPathExpression compileXPathExpression(String expression) {
+    XPath xPath = XPATHS.borrow();
     try {
-      XPath xpath = createXPath();
-      XPathExpression compiledExpression = xpath.compile(expression);
-      return (T) compiledExpression.evaluate(document, dataType);
+      return xPath.compile(expression);
     } catch (XPathExpressionException e) {
-      throw new IllegalArgumentException("Cannot evaluate XPath expression '" + expression + "'");
+      throw new IllegalArgumentException("Cannot compile XPath expression '" + expression + "'", e);
+    } finally {
+      xPath.reset();
+      XPATHS.release(xPath);
     }
   }
 
-  private static XPath createXPath() {
-    return XPathFactory.newInstance().newXPath();
+  private static <T> T evaluateXpath(String expression, Document document, QName dataType) {
+    CompiledXPath compiledXPath = XPATH_REGISTRY.getIfPresent(expression);
+    if (compiledXPath == null) {
+      compiledXPath = compileXPath(expression);
+      XPATH_REGISTRY.put(expression, compiledXPath);
+    }
+
+    return compiledXPath.evaluate(document, dataType);
   }
 
-  private static DocumentBuilder createDocumentBuilder() {
-    try {
-      return DocumentBuilderFactory.newInstance().newDocumentBuilder();
-    } catch (ParserConfigurationException e) {
-      throw new IllegalStateException("Cannot create document builder", e);
+  private static void releaseDocumentBuilder(DocumentBuilder documentBuilder) {
+    documentBuilder.reset();
+    DOCUMENT_BUILDERS.release(documentBuilder);
+  }
+
+  private static XPath newXPath() {
+    // XPathFactory is not thread-safe
+    synchronized (XPATH_FACTORY) {
+      return XPATH_FACTORY.newXPath();
+    }
+  }
+
+  private static DocumentBuilder newDocumentBuilder() {
+    // DocumentBuilderFactory is not thread-safe
+    synchronized (DOCUMENT_BUILDER_FACTORY) {
+      try {
+        return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+      } catch (ParserConfigurationException e) {
+        throw new IllegalStateException("Cannot create document builder", e);
+      }
     }
   }
 
@@ -18,6 +18,7 @@ package com.github.ferstl.maven.pomenforcers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 /**
@@ -78,10 +79,14 @@ abstract class AbstractPedanticDependencyOrderEnforcerTest<T extends AbstractPed
 
   @Test
   void defaultSettingsWrongArtifactIdOrder() {
+    this.testRule.setFix(true);
     this.dependencyAdder.addDependency("a.b.c", "b", DependencyScope.COMPILE);
     this.dependencyAdder.addDependency("a.b.c", "a", DependencyScope.COMPILE);
 
     executeRuleAndCheckReport(true);
+    assertThat(this.report.getFixes())
+        .singleElement()
+        .hasToString(this.testRule.getDeclarationPath() + "[0]: [1, 0]");
   }
 
   @Test
@@ -127,6 +132,45 @@ abstract class AbstractPedanticDependencyOrderEnforcerTest<T extends AbstractPed
     executeRuleAndCheckReport(false);
   }
 
+  @Test
+  void orderViolations() {
+    this.testRule.setShowDiff(false);
+
+    this.dependencyAdder.addDependency("a.b.c", "a", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("d.e.f", "a", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("a.b.c", "b", DependencyScope.COMPILE);
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.toString())
+        .containsPattern("a\\.b\\.c:b\\S* \\(position 3\\) has to be placed before d\\.e\\.f:a")
+        .doesNotContain("Required Order");
+  }
+
+  @Test
+  void orderViolationsWithFix() {
+    this.testRule.setShowDiff(false);
+    this.testRule.setFix(true);
+
+    this.dependencyAdder.addDependency("a.b.c", "a", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("d.e.f", "a", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("a.b.c", "b", DependencyScope.COMPILE);
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.toString()).doesNotContain("Required Order");
+    assertThat(this.report.getFixes())
+        .singleElement()
+        .hasToString(this.testRule.getDeclarationPath() + "[0]: [0, 2, 1]");
+  }
+
+  @Test
+  void noFixWithoutFixMode() {
+    this.dependencyAdder.addDependency("a.b.c", "b", DependencyScope.COMPILE);
+    this.dependencyAdder.addDependency("a.b.c", "a", DependencyScope.COMPILE);
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.getFixes()).isEmpty();
+  }
+
   @FunctionalInterface
   interface DependencyAdder {
 
@@ -15,6 +15,9 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -26,12 +29,14 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
 import com.github.ferstl.maven.pomenforcers.model.DependencyScope;
 import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
 import static com.github.ferstl.maven.pomenforcers.ErrorReportAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +85,23 @@ abstract class AbstractPedanticEnforcerTest<T extends AbstractPedanticEnforcer>
   @Test
   abstract void accept();
 
+  @Test
+  void cacheId(@TempDir Path tempDir) throws Exception {
+    assertThat(this.testRule.getCacheId()).isNull();
+
+    Path pomFile = tempDir.resolve("pom.xml");
+    Files.write(pomFile, "<project><artifactId>a</artifactId></project>".getBytes(StandardCharsets.UTF_8));
+    when(this.mockMavenProject.getFile()).thenReturn(pomFile.toFile());
+    when(this.mockMavenProject.getId()).thenReturn("a.b.c:a:jar:1.0");
+    String cacheId = this.testRule.getCacheId();
+
+    assertThat(cacheId).isNotNull();
+    assertThat(createRule().getCacheId()).isEqualTo(cacheId);
+
+    Files.write(pomFile, "<project><artifactId>b</artifactId></project>".getBytes(StandardCharsets.UTF_8));
+    assertThat(createRule().getCacheId()).isNotEqualTo(cacheId);
+  }
+
   protected void executeRuleAndCheckReport(boolean hasErrors) {
     this.testRule.doEnforce(this.report);
 
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.maven.enforcer.rule.api.EnforcerLogger;
+import org.apache.maven.enforcer.rule.api.EnforcerRuleException;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.model.PomReader;
+import com.github.ferstl.maven.pomenforcers.report.RuleMetrics;
+import com.github.ferstl.maven.pomenforcers.report.Violation;
+import static com.github.ferstl.maven.pomenforcers.ErrorReportAssert.assertThat;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JUnit tests for {@link CompoundPedanticEnforcer}.
+ */
+class CompoundPedanticEnforcerTest extends AbstractPedanticEnforcerTest<CompoundPedanticEnforcer> {
+
+  private static final String POM = ""
+      + "<project>\n"
+      + "  <artifactId>a</artifactId>\n"
+      + "  <groupId>g</groupId>\n"
+      + "  <dependencies>\n"
+      + "    <dependency>\n"
+      + "      <artifactId>d</artifactId>\n"
+      + "      <groupId>g</groupId>\n"
+      + "    </dependency>\n"
+      + "  </dependencies>\n"
+      + "  <build>\n"
+      + "    <plugins>\n"
+      + "      <plugin>\n"
+      + "        <artifactId>p</artifactId>\n"
+      + "        <groupId>g</groupId>\n"
+      + "      </plugin>\n"
+      + "    </plugins>\n"
+      + "  </build>\n"
+      + "</project>\n";
+
+  private static final String CORRECT_POM = ""
+      + "<project>\n"
+      + "  <groupId>g</groupId>\n"
+      + "  <artifactId>a</artifactId>\n"
+      + "</project>\n";
+
+  @TempDir
+  Path tempDir;
+
+  @Override
+  CompoundPedanticEnforcer createRule() {
+    return new CompoundPedanticEnforcer(this.mockMavenProject, this.mockHelper);
+  }
+
+  @Override
+  @Test
+  void getDescription() {
+    assertThat(this.testRule.getDescription()).isSameAs(PedanticEnforcerRule.COMPOUND);
+  }
+
+  @Override
+  @Test
+  void accept() {
+    PedanticEnforcerVisitor visitor = mock(PedanticEnforcerVisitor.class);
+    this.testRule.accept(visitor);
+
+    verify(visitor).visit(this.testRule);
+  }
+
+  @Test
+  void parallelReportEqualsSequentialReport() {
+    this.testRule.setEnforcers("POM_SECTION_ORDER,DEPENDENCY_ELEMENT,PLUGIN_ELEMENT");
+    String sequentialReport = enforce(false, 1);
+    String parallelReport = enforce(true, 4);
+
+    assertThat(sequentialReport)
+        .contains(PedanticEnforcerRule.POM_SECTION_ORDER.name())
+        .contains(PedanticEnforcerRule.DEPENDENCY_ELEMENT.name())
+        .contains(PedanticEnforcerRule.PLUGIN_ELEMENT.name());
+    assertThat(parallelReport).isEqualTo(sequentialReport);
+  }
+
+  @Test
+  void parallelReportOrder() {
+    this.testRule.setEnforcers("PLUGIN_ELEMENT,POM_SECTION_ORDER,DEPENDENCY_ELEMENT");
+    String report = enforce(true, 3);
+
+    assertThat(report.indexOf(PedanticEnforcerRule.PLUGIN_ELEMENT.name()))
+        .isLessThan(report.indexOf(PedanticEnforcerRule.POM_SECTION_ORDER.name()));
+    assertThat(report.indexOf(PedanticEnforcerRule.POM_SECTION_ORDER.name()))
+        .isLessThan(report.indexOf(PedanticEnforcerRule.DEPENDENCY_ELEMENT.name()));
+  }
+
+  @Test
+  void cacheResults() throws Exception {
+    Build build = new Build();
+    build.setDirectory(this.tempDir.toString());
+    when(this.mockMavenProject.getBuild()).thenReturn(build);
+    Path cacheDirectory = this.tempDir.resolve(ResultCache.DIRECTORY_NAME);
+
+    this.testRule.setEnforcers("POM_SECTION_ORDER,DEPENDENCY_ELEMENT,PLUGIN_ELEMENT");
+    this.testRule.setCacheResults(true);
+
+    // Errors are not cached
+    enforce(false, 1);
+    assertThat(cacheDirectory).doesNotExist();
+
+    // Successful results are cached
+    this.testRule.initialize(PomReader.read(CORRECT_POM.getBytes(StandardCharsets.UTF_8), "hash"));
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+    this.testRule.doEnforce(report);
+
+    assertThat(report).hasNoErrors();
+    try (Stream<Path> files = Files.list(cacheDirectory)) {
+      assertThat(files).hasSize(1);
+    }
+  }
+
+  @Test
+  void metrics() {
+    RuleMetrics metrics = new RuleMetrics();
+    this.testRule.setRuleMetrics(metrics);
+    this.testRule.setEnforcers("POM_SECTION_ORDER,PLUGIN_ELEMENT");
+
+    enforce(true, 2);
+
+    assertThat(metrics.toTable())
+        .contains("POM_SECTION_ORDER  ENFORCE")
+        .contains("PLUGIN_ELEMENT     ENFORCE");
+  }
+
+  @Test
+  void cacheIdDoesNotParsePom() throws Exception {
+    Build build = new Build();
+    build.setDirectory(this.tempDir.toString());
+    when(this.mockMavenProject.getBuild()).thenReturn(build);
+    when(this.mockMavenProject.getFile()).thenReturn(writePom());
+    RuleMetrics metrics = new RuleMetrics();
+    this.testRule.setRuleMetrics(metrics);
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+
+    assertThat(this.testRule.getCacheId()).isNotNull();
+    assertThat(metrics.isEmpty()).isTrue();
+    assertThatThrownBy(() -> this.testRule.execute()).isInstanceOf(EnforcerRuleException.class);
+
+    StringBuilder jsonLines = new StringBuilder();
+    metrics.writeTo(jsonLines);
+    assertThat(jsonLines.toString())
+        .contains("\"phase\":\"PARSE\",\"count\":1,")
+        .contains("\"phase\":\"BIND\",\"count\":1,");
+  }
+
+  @Test
+  void failureToWriteMetricsDoesNotHideViolations() throws Exception {
+    EnforcerLogger log = mock(EnforcerLogger.class);
+    this.testRule.setLog(log);
+    this.testRule.setRuleMetrics(new RuleMetrics());
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    // The report directory cannot be created since a file with the same name exists
+    this.testRule.setReportDirectory(writePom());
+    when(this.mockMavenProject.getFile()).thenReturn(writePom());
+
+    assertThatThrownBy(() -> this.testRule.execute())
+        .isInstanceOf(EnforcerRuleException.class)
+        .hasMessage("COMPOUND: " + PedanticEnforcerRule.COMPOUND.getSlogan() + " See the report above.");
+    verify(log).warn(startsWith("Unable to write metrics to "));
+  }
+
+  @Test
+  void rulesShareInterpolator() throws Exception {
+    String pom = ""
+        + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <dependencyManagement>\n"
+        + "    <dependencies>\n"
+        + "      <dependency><groupId>${g}</groupId><artifactId>d</artifactId></dependency>\n"
+        + "    </dependencies>\n"
+        + "  </dependencyManagement>\n"
+        + "  <dependencies>\n"
+        + "    <dependency><groupId>${g}</groupId><artifactId>d</artifactId></dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>\n";
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("g");
+    dependency.setArtifactId("d");
+    DependencyManagement dependencyManagement = new DependencyManagement();
+    dependencyManagement.addDependency(dependency);
+    when(this.mockMavenProject.getDependencies()).thenReturn(singletonList(dependency));
+    when(this.mockMavenProject.getDependencyManagement()).thenReturn(dependencyManagement);
+    when(this.mockHelper.evaluate("${g}")).thenReturn("g");
+
+    this.testRule.setEnforcers("DEPENDENCY_ORDER,DEPENDENCY_MANAGEMENT_ORDER");
+    this.testRule.initialize(PomReader.read(pom.getBytes(StandardCharsets.UTF_8), "hash"));
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+    this.testRule.doEnforce(report);
+
+    assertThat(report).hasNoErrors();
+    verify(this.mockHelper, times(1)).evaluate("${g}");
+  }
+
+  @Test
+  void violationsAreReportedAtEachOffendingElement() throws Exception {
+    String pom = ""
+        + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <dependencies>\n"
+        + "    <dependency><groupId>g</groupId><artifactId>a</artifactId><version>1</version></dependency>\n"
+        + "    <dependency><groupId>g</groupId><artifactId>b</artifactId></dependency>\n"
+        + "    <dependency><groupId>g</groupId><artifactId>c</artifactId><version>1</version></dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>\n";
+
+    this.testRule.setEnforcers("DEPENDENCY_CONFIGURATION");
+    this.testRule.initialize(PomReader.read(pom.getBytes(StandardCharsets.UTF_8), "hash"));
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+    this.testRule.doEnforce(report);
+
+    assertThat(report.getViolations())
+        .extracting(Violation::getElement, Violation::getLine, Violation::getColumn)
+        .containsExactly(tuple("/project/dependencies/dependency[1]", 3, 5), tuple("/project/dependencies/dependency[3]", 5, 5));
+  }
+
+  @Test
+  void fixModeIsPassedToRules() throws Exception {
+    String pom = ""
+        + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <dependencies>\n"
+        + "    <dependency><groupId>g</groupId><artifactId>b</artifactId></dependency>\n"
+        + "    <dependency><groupId>g</groupId><artifactId>a</artifactId></dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>\n";
+    Path pomFile = this.tempDir.resolve("pom.xml");
+    Files.write(pomFile, pom.getBytes(StandardCharsets.UTF_8));
+    Dependency dependencyA = new Dependency();
+    dependencyA.setGroupId("g");
+    dependencyA.setArtifactId("a");
+    Dependency dependencyB = new Dependency();
+    dependencyB.setGroupId("g");
+    dependencyB.setArtifactId("b");
+    when(this.mockMavenProject.getFile()).thenReturn(pomFile.toFile());
+    when(this.mockMavenProject.getDependencies()).thenReturn(Arrays.asList(dependencyB, dependencyA));
+
+    this.testRule.setEnforcers("DEPENDENCY_ORDER");
+    this.testRule.setFix(true);
+    this.testRule.initialize(PomReader.read(Files.readAllBytes(pomFile), "hash"));
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+    this.testRule.doEnforce(report);
+
+    assertThat(report).hasNoErrors();
+    assertThat(new String(Files.readAllBytes(pomFile), StandardCharsets.UTF_8))
+        .containsSubsequence("<artifactId>a</artifactId>", "<artifactId>b</artifactId>");
+  }
+
+  @Test
+  void reportIsWrittenToLog() throws Exception {
+    EnforcerLogger log = mock(EnforcerLogger.class);
+    this.testRule.setLog(log);
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    when(this.mockMavenProject.getFile()).thenReturn(writePom());
+
+    assertThatThrownBy(() -> this.testRule.execute())
+        .isInstanceOf(EnforcerRuleException.class)
+        .hasMessage("COMPOUND: " + PedanticEnforcerRule.COMPOUND.getSlogan() + " See the report above.");
+    verify(log).error("POM_SECTION_ORDER: " + PedanticEnforcerRule.POM_SECTION_ORDER.getSlogan());
+  }
+
+  @Test
+  void reportIsWrittenToFile() throws Exception {
+    Path reportFile = this.tempDir.resolve("report/errors.txt");
+    this.testRule.setErrorReportFile(reportFile.toFile());
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    when(this.mockMavenProject.getFile()).thenReturn(writePom());
+
+    assertThatThrownBy(() -> this.testRule.execute())
+        .isInstanceOf(EnforcerRuleException.class)
+        .hasMessageContaining("POM_SECTION_ORDER: ")
+        .hasMessageEndingWith("The full report has been written to " + reportFile);
+    assertThat(new String(Files.readAllBytes(reportFile), StandardCharsets.UTF_8)).contains("POM_SECTION_ORDER: ");
+  }
+
+  @Test
+  void violationsAreWrittenPerModule() throws Exception {
+    Path reportDirectory = this.tempDir.resolve("reports");
+    this.testRule.setReportFormat("jsonl");
+    this.testRule.setReportDirectory(reportDirectory.toFile());
+    this.testRule.setEnforcers("POM_SECTION_ORDER");
+    when(this.mockMavenProject.getFile()).thenReturn(writePom());
+
+    when(this.mockMavenProject.getArtifactId()).thenReturn("a");
+    assertThatThrownBy(() -> this.testRule.execute()).isInstanceOf(EnforcerRuleException.class);
+    when(this.mockMavenProject.getArtifactId()).thenReturn("b");
+    assertThatThrownBy(() -> this.testRule.execute()).isInstanceOf(EnforcerRuleException.class);
+
+    assertThat(reportDirectory.resolve("violations-a-COMPOUND.jsonl")).exists();
+    assertThat(new String(Files.readAllBytes(reportDirectory.resolve("violations-b-COMPOUND.jsonl")), StandardCharsets.UTF_8))
+        .startsWith("{\"rule\":\"POM_SECTION_ORDER\"")
+        .contains("\"element\":\"/project/");
+  }
+
+  private File writePom() throws Exception {
+    Path pomFile = this.tempDir.resolve("pom.xml");
+    Files.write(pomFile, POM.getBytes(StandardCharsets.UTF_8));
+    return pomFile.toFile();
+  }
+
+  private String enforce(boolean parallel, int threads) {
+    this.testRule.initialize(PomReader.read(POM.getBytes(StandardCharsets.UTF_8), "hash"));
+    this.testRule.setParallel(parallel);
+    this.testRule.setThreads(threads);
+
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND);
+    this.testRule.doEnforce(report);
+
+    assertThat(report).hasErrors();
+    return report.toString();
+  }
+}
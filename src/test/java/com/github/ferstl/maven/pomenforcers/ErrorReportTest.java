@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.model.SourceLocation;
+import com.github.ferstl.maven.pomenforcers.report.Violation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorReportTest {
+
+  private static final String NL = System.getProperty("line.separator", "\n");
+
+  @Test
+  void writeTo() throws Exception {
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addLine("line 1")
+        .emptyLine()
+        .addLine("line 2");
+    StringWriter writer = new StringWriter();
+
+    report.writeTo(writer);
+
+    String title = PedanticEnforcerRule.MODULE_ORDER.name() + ": " + PedanticEnforcerRule.MODULE_ORDER.getSlogan();
+    assertThat(writer.toString())
+        .isEqualTo(report.toString())
+        .isEqualTo(title + NL + title.replaceAll(".", "=") + NL + NL + "line 1" + NL + NL + "line 2");
+  }
+
+  @Test
+  void nestedReport() {
+    ErrorReport nested = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addDiff(Arrays.asList("a", "b"), Arrays.asList("b", "a"), "", "");
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND)
+        .useLargeTitle()
+        .addLine(nested);
+
+    assertThat(report.toString()).endsWith(nested.toString());
+    assertThat(nested.toString()).contains(" | + ");
+  }
+
+  @Test
+  void limitDiffs() {
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .limitDiffs(1)
+        .addDiff(Arrays.asList("a", "b"), Arrays.asList("b", "a"), "", "");
+
+    assertThat(report.toString()).contains("Diff omitted (2 changed lines exceed the limit of 1)");
+  }
+
+  @Test
+  void truncate() {
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .addLine("0123456789")
+        .addLine("0123456789");
+
+    String truncated = report.toString(20);
+
+    assertThat(truncated)
+        .startsWith(report.toString().substring(0, 20))
+        .endsWith("[... report truncated after 20 characters]");
+    assertThat(report.toString(report.toString().length())).isEqualTo(report.toString());
+    assertThat(report.toString(0)).isEqualTo(report.toString());
+  }
+
+  @Test
+  void getViolations() {
+    ErrorReport moduleOrder = new ErrorReport(PedanticEnforcerRule.MODULE_ORDER)
+        .forModule("a.b:c", new File("pom.xml"))
+        .at("/project/modules/module", 0, new SourceLocation(12, 5), "Module b is out of order")
+        .at("/project/modules/module", 1, new SourceLocation(20, 5), "Module a is out of order")
+        .addLine("Your modules are not in order.")
+        .emptyLine()
+        .addDiff(Arrays.asList("b", "a"), Arrays.asList("a", "b"), "Actual", "Required");
+    ErrorReport sectionOrder = new ErrorReport(PedanticEnforcerRule.POM_SECTION_ORDER)
+        .addLine("Wrong order.");
+    ErrorReport report = new ErrorReport(PedanticEnforcerRule.COMPOUND)
+        .addLine("Please fix these problems:")
+        .addLine(moduleOrder)
+        .addLine(new ErrorReport(PedanticEnforcerRule.DEPENDENCY_ORDER))
+        .addLine(sectionOrder);
+
+    List<Violation> violations = report.getViolations();
+
+    assertThat(violations).hasSize(3);
+    Violation violation = violations.get(0);
+    assertThat(violation.getRule()).isEqualTo(PedanticEnforcerRule.MODULE_ORDER);
+    assertThat(violation.getModule()).isEqualTo("a.b:c");
+    assertThat(violation.getPomFile()).isEqualTo("pom.xml");
+    assertThat(violation.getElement()).isEqualTo("/project/modules/module[1]");
+    assertThat(violation.getLine()).isEqualTo(12);
+    assertThat(violation.getColumn()).isEqualTo(5);
+    assertThat(violation.getMessage()).isEqualTo("Module b is out of order");
+    assertThat(violation.getActual()).containsExactly("b", "a");
+    assertThat(violation.getExpected()).containsExactly("a", "b");
+    assertThat(violations.get(1).getLine()).isEqualTo(20);
+    assertThat(violations.get(1).getColumn()).isEqualTo(5);
+    assertThat(violations.get(1).getElement()).isEqualTo("/project/modules/module[2]");
+    assertThat(violations.get(1).getMessage()).isEqualTo("Module a is out of order");
+    assertThat(violations.get(2).getRule()).isEqualTo(PedanticEnforcerRule.POM_SECTION_ORDER);
+    assertThat(violations.get(2).getPomFile()).isNull();
+    assertThat(violations.get(2).getElement()).isNull();
+    assertThat(violations.get(2).getLine()).isZero();
+    assertThat(violations.get(2).getMessage()).isEqualTo("Wrong order.");
+  }
+}
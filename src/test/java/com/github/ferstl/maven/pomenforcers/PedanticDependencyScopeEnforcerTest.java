@@ -15,6 +15,7 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.io.File;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -32,6 +33,7 @@ import com.google.common.collect.Collections2;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * JUnit tests for {@link PedanticDependencyScopeEnforcer}.
@@ -118,6 +120,22 @@ class PedanticDependencyScopeEnforcerTest extends AbstractPedanticEnforcerTest<P
   }
 
 
+  @Test
+  void cacheIdDependsOnConfiguration() throws Exception {
+    when(this.mockMavenProject.getFile()).thenReturn(new File("src/test/projects/example-project/pom.xml"));
+    when(this.mockMavenProject.getId()).thenReturn("a.b.c:a:jar:1.0");
+    String cacheId = this.testRule.getCacheId();
+
+    this.testRule.setCompileDependencies("a.b.c:dep-compile");
+    String configuredCacheId = this.testRule.getCacheId();
+
+    PedanticDependencyScopeEnforcer sameConfiguration = createRule();
+    sameConfiguration.setCompileDependencies("a.b.c:dep-compile");
+
+    assertThat(configuredCacheId).isNotEqualTo(cacheId);
+    assertThat(sameConfiguration.getCacheId()).isEqualTo(configuredCacheId);
+  }
+
   private void addDependenciesForAllScopes() {
     for (DependencyScope scope : DependencyScope.values()) {
       addDependency("a.b.c", "dep-" + scope.getScopeName(), scope);
@@ -15,11 +15,17 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -94,4 +100,47 @@ class PedanticModuleOrderEnforcerTest extends AbstractPedanticEnforcerTest<Pedan
     executeRuleAndCheckReport(true);
   }
 
+  @Test
+  void fixOrderWithIgnores() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("m9", "m2", "m1", "m8", "m0"));
+    this.testRule.setIgnoredModules("m9,m8");
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.getFixes())
+        .singleElement()
+        .hasToString("/project/modules[0]: [0, 4, 2, 3, 1]");
+  }
+
+  @Test
+  void fixErrors(@TempDir Path tempDir) throws Exception {
+    String pom = "<project>\n  <modules>\n    <module>m2</module> <!-- m2 -->\n    <module>m1</module>\n  </modules>\n</project>\n";
+    Path pomFile = tempDir.resolve("pom.xml");
+    Files.write(pomFile, pom.getBytes(StandardCharsets.UTF_8));
+    long lastModified = System.currentTimeMillis() - 10_000;
+    pomFile.toFile().setLastModified(lastModified);
+    when(this.mockMavenProject.getFile()).thenReturn(pomFile.toFile());
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("m2", "m1"));
+    ParsedPom parsedPom = PomCache.getInstance().load(pomFile.toFile());
+    this.testRule.setFix(true);
+
+    executeRuleAndCheckReport(true);
+
+    assertThat(this.testRule.fixErrors(this.mockMavenProject, parsedPom, Collections.singletonList(this.report))).isEmpty();
+    assertThat(new String(Files.readAllBytes(pomFile), StandardCharsets.UTF_8))
+        .isEqualTo("<project>\n  <modules>\n    <module>m1</module>\n    <module>m2</module> <!-- m2 -->\n  </modules>\n</project>\n");
+
+    // The rewritten POM has the same size. It is not taken from the cache even if its modification time did not change.
+    pomFile.toFile().setLastModified(lastModified);
+    assertThat(PomCache.getInstance().load(pomFile.toFile()).getContent()).isEqualTo(Files.readAllBytes(pomFile));
+  }
+
+  @Test
+  void fixDisabled() {
+    when(this.projectModel.getModules()).thenReturn(Arrays.asList("m2", "m1"));
+
+    executeRuleAndCheckReport(true);
+
+    assertThat(this.testRule.fixErrors(this.mockMavenProject, this.testRule.getParsedPom(), Collections.singletonList(this.report)))
+        .containsExactly(this.report);
+  }
 }
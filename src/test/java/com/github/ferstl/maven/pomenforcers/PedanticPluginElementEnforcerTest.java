@@ -15,6 +15,7 @@
  */
 package com.github.ferstl.maven.pomenforcers;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.apache.maven.project.MavenProject;
@@ -23,6 +24,7 @@ import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.model.PomReader;
 import com.github.ferstl.maven.pomenforcers.model.ProjectModel;
 import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
 import static com.github.ferstl.maven.pomenforcers.ErrorReportAssert.assertThat;
@@ -84,6 +86,29 @@ class PedanticPluginElementEnforcerTest {
     assertThat(this.errorReport).hasErrors();
   }
 
+  @Test
+  void managedPluginsAreNotChecked() {
+    // arrange
+    String pom = ""
+        + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <build>\n"
+        + "    <pluginManagement>\n"
+        + "      <plugins>\n"
+        + "        <plugin><artifactId>a</artifactId><groupId>g</groupId></plugin>\n"
+        + "      </plugins>\n"
+        + "    </pluginManagement>\n"
+        + "  </build>\n"
+        + "</project>\n";
+    PedanticPluginElementEnforcer enforcer = new PedanticPluginElementEnforcer(this.mockMavenProject, this.mockHelper);
+    enforcer.initialize(PomReader.read(pom.getBytes(StandardCharsets.UTF_8), "hash"));
+
+    // act
+    enforcer.doEnforce(this.errorReport);
+
+    // assert
+    assertThat(this.errorReport).hasNoErrors();
+  }
+
   private PedanticPluginElementEnforcer createEnforcer(Path pomFile) {
     Document document = XmlUtils.parseXml(pomFile.toFile());
     PedanticPluginElementEnforcer enforcer = new PedanticPluginElementEnforcer(this.mockMavenProject, this.mockHelper);
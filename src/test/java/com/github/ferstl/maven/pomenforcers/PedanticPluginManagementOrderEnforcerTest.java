@@ -69,6 +69,21 @@ class PedanticPluginManagementOrderEnforcerTest extends AbstractPedanticEnforcer
     addManagedPlugin("a.b.c", "a");
 
     executeRuleAndCheckReport(true);
+    assertThat(this.report.getFixes()).isEmpty();
+  }
+
+  @Test
+  void wrongOrderWithFix() {
+    this.testRule.setFix(true);
+
+    addManagedPlugin("d.e.f", "a");
+    addManagedPlugin("a.b.c", "b");
+    addManagedPlugin("a.b.c", "a");
+
+    executeRuleAndCheckReport(true);
+    assertThat(this.report.getFixes())
+        .singleElement()
+        .hasToString("/project/build/pluginManagement/plugins[0]: [2, 1, 0]");
   }
 
   @Test
@@ -80,6 +80,30 @@ class PedanticPomEnforcersIntegrationTest {
     result.assertLogText("BUILD FAILURE");
   }
 
+  @MavenPluginTest
+  void aggregate() throws Exception {
+    File basedir = this.resources.getBasedir("aggregate");
+    MavenExecutionResult result = this.mavenRuntime
+        .forProject(basedir)
+        .execute("enforcer:enforce");
+
+    result.assertLogText("Module com.github.ferstl:aggregate-it-module-b");
+    result.assertLogText("DEPENDENCY_ORDER: ");
+    result.assertLogText("BUILD FAILURE");
+  }
+
+  @MavenPluginTest
+  void aggregateWithoutExecutionRoot() throws Exception {
+    File basedir = this.resources.getBasedir("aggregate");
+    MavenExecutionResult result = this.mavenRuntime
+        .forProject(basedir)
+        .withCliOptions("-pl", "module-b")
+        .execute("enforcer:enforce");
+
+    result.assertLogText("Module com.github.ferstl:aggregate-it-module-b");
+    result.assertLogText("BUILD FAILURE");
+  }
+
   @MavenPluginTest
   void warnOnly() throws Exception {
     File basedir = this.resources.getBasedir("warn-only");
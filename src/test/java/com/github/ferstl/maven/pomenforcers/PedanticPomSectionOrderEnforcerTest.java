@@ -67,6 +67,11 @@ class PedanticPomSectionOrderEnforcerTest extends AbstractPedanticEnforcerTest<P
     configurePom(sections);
 
     executeRuleAndCheckReport(true);
+    int dependencyManagement = PomSection.DEPENDENCY_MANAGEMENT.ordinal();
+    int dependencies = PomSection.DEPENDENCIES.ordinal();
+    assertThat(this.report.getFixes())
+        .singleElement()
+        .hasToString("/project[0]: " + swappedOrder(sections.size(), dependencyManagement, dependencies));
   }
 
   @Test
@@ -107,6 +112,16 @@ class PedanticPomSectionOrderEnforcerTest extends AbstractPedanticEnforcerTest<P
     }
   }
 
+  private static String swappedOrder(int size, int first, int second) {
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    order[first] = second;
+    order[second] = first;
+    return Arrays.toString(order);
+  }
+
   private void swapSections(List<PomSection> sections, PomSection first, PomSection second) {
     int iFirst = sections.indexOf(first);
     int iSecond = sections.indexOf(second);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PomCacheTest {
+
+  private static final String POM_TEMPLATE = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+      + "<groupId>a.b.c</groupId><artifactId>%s</artifactId></project>";
+
+  @TempDir
+  Path tempDir;
+
+  private PomCache pomCache;
+
+  @BeforeEach
+  void before() {
+    this.pomCache = new PomCache(2);
+  }
+
+  @Test
+  void sameContentIsParsedOnce() throws Exception {
+    File pom = writePom("pom.xml", "a");
+
+    ParsedPom first = this.pomCache.load(pom);
+    ParsedPom second = this.pomCache.load(pom);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getProjectModel().artifactId).isEqualTo("a");
+    assertThat(first.getDocument().getDocumentElement().getNodeName()).isEqualTo("project");
+  }
+
+  @Test
+  void changedContentIsParsedAgain() throws Exception {
+    File pom = writePom("pom.xml", "a");
+    ParsedPom first = this.pomCache.load(pom);
+
+    writePom("pom.xml", "bbb");
+    ParsedPom second = this.pomCache.load(pom);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getContentHash()).isNotEqualTo(first.getContentHash());
+    assertThat(second.getProjectModel().artifactId).isEqualTo("bbb");
+  }
+
+  @Test
+  void changedContentWithSameSizeIsParsedAgain() throws Exception {
+    // The file is modified within the granularity of its modification time
+    File pom = writePom("pom.xml", "a");
+    long lastModified = pom.lastModified();
+    ParsedPom first = this.pomCache.load(pom);
+
+    writePom("pom.xml", "b");
+    pom.setLastModified(lastModified);
+    ParsedPom second = this.pomCache.load(pom);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getProjectModel().artifactId).isEqualTo("b");
+  }
+
+  @Test
+  void invalidate() throws Exception {
+    File pom = writePom("pom.xml", "a");
+    pom.setLastModified(System.currentTimeMillis() - 10_000);
+    ParsedPom first = this.pomCache.load(pom);
+
+    this.pomCache.invalidate(pom);
+
+    assertThat(this.pomCache.size()).isZero();
+    assertThat(this.pomCache.load(pom)).isNotSameAs(first);
+  }
+
+  @Test
+  void touchedFileIsNotParsedAgain() throws Exception {
+    File pom = writePom("pom.xml", "a");
+    ParsedPom first = this.pomCache.load(pom);
+
+    pom.setLastModified(pom.lastModified() + 2000);
+    ParsedPom second = this.pomCache.load(pom);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void unchangedFileIsNotReadAgain() throws Exception {
+    File pom = writePom("pom.xml", "a");
+    long lastModified = System.currentTimeMillis() - 10_000;
+    pom.setLastModified(lastModified);
+    ParsedPom first = this.pomCache.load(pom);
+
+    // Same size and modification time, so the cached entry is used without reading the file
+    writePom("pom.xml", "b");
+    pom.setLastModified(lastModified);
+    ParsedPom second = this.pomCache.load(pom);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void contentHashDoesNotParse() throws Exception {
+    File pom = writePom("pom.xml", "a");
+
+    String contentHash = this.pomCache.getContentHash(pom);
+
+    assertThat(this.pomCache.size()).isZero();
+    assertThat(this.pomCache.load(pom).getContentHash()).isEqualTo(contentHash);
+    assertThat(this.pomCache.getContentHash(pom)).isEqualTo(contentHash);
+  }
+
+  @Test
+  void cacheIsBounded() throws Exception {
+    this.pomCache.load(writePom("pom1.xml", "a"));
+    this.pomCache.load(writePom("pom2.xml", "b"));
+    this.pomCache.load(writePom("pom3.xml", "c"));
+
+    assertThat(this.pomCache.size()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void nonExistingFile() {
+    File pom = this.tempDir.resolve("does-not-exist.xml").toFile();
+
+    assertThatThrownBy(() -> this.pomCache.load(pom))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private File writePom(String name, String artifactId) throws Exception {
+    Path pom = this.tempDir.resolve(name);
+    Files.write(pom, String.format(POM_TEMPLATE, artifactId).getBytes(StandardCharsets.UTF_8));
+    return pom.toFile();
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PomLinterTest {
+
+  private static final String POM = ""
+      + "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+      + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+      + "  <modelVersion>4.0.0</modelVersion>\n"
+      + "  <groupId>g</groupId>\n"
+      + "  <artifactId>a</artifactId>\n"
+      + "  <version>1.0</version>\n"
+      + "  <properties>\n"
+      + "    <other.group>z</other.group>\n"
+      + "  </properties>\n"
+      + "  <dependencies>\n"
+      + "    <dependency>\n"
+      + "      <groupId>${other.group}</groupId>\n"
+      + "      <artifactId>b</artifactId>\n"
+      + "      <version>1.0</version>\n"
+      + "    </dependency>\n"
+      + "    <dependency>\n"
+      + "      <groupId>${project.groupId}</groupId>\n"
+      + "      <artifactId>c</artifactId>\n"
+      + "      <version>${project.version}</version>\n"
+      + "    </dependency>\n"
+      + "  </dependencies>\n"
+      + "</project>\n";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void findPomFiles() throws Exception {
+    Files.createDirectories(this.tempDir.resolve("module/target"));
+    Files.createDirectories(this.tempDir.resolve(".hidden"));
+    Files.write(this.tempDir.resolve("pom.xml"), new byte[0]);
+    Files.write(this.tempDir.resolve("module/pom.xml"), new byte[0]);
+    Files.write(this.tempDir.resolve("module/target/pom.xml"), new byte[0]);
+    Files.write(this.tempDir.resolve(".hidden/pom.xml"), new byte[0]);
+
+    List<File> pomFiles = PomLinter.findPomFiles(Collections.singletonList(this.tempDir.toFile()));
+
+    assertThat(pomFiles).containsExactly(
+        this.tempDir.resolve("module/pom.xml").toFile(),
+        this.tempDir.resolve("pom.xml").toFile());
+  }
+
+  @Test
+  void lintResolvesProperties() throws Exception {
+    File pomFile = writePom(POM);
+
+    Map<File, ErrorReport> reports = new PomLinter()
+        .configure("enforcers", "DEPENDENCY_ORDER")
+        .configure("dependenciesOrderBy", "groupId,artifactId")
+        .lint(Collections.singletonList(pomFile));
+
+    ErrorReport report = reports.get(pomFile);
+    assertThat(report.hasErrors()).isTrue();
+    assertThat(report.toString()).contains("g:c:1.0");
+  }
+
+  @Test
+  void lintWithoutViolations() throws Exception {
+    File pomFile = writePom(POM);
+
+    Map<File, ErrorReport> reports = new PomLinter()
+        .configure("enforcers", "DEPENDENCY_ORDER")
+        .configure("dependenciesOrderBy", "artifactId")
+        .lint(Collections.singletonList(pomFile));
+
+    assertThat(reports.get(pomFile).hasErrors()).isFalse();
+  }
+
+  @Test
+  void lintUnreadablePom() throws Exception {
+    File pomFile = writePom("<project>");
+
+    Map<File, ErrorReport> reports = new PomLinter().lint(Collections.singletonList(pomFile));
+
+    assertThat(reports.get(pomFile).hasErrors()).isTrue();
+    assertThat(reports.get(pomFile).toString()).contains("Unable to check");
+  }
+
+  @Test
+  void lintExampleProject() {
+    List<File> pomFiles = PomLinter.findPomFiles(Collections.singletonList(new File("src/test/projects/example-project")));
+
+    Map<File, ErrorReport> reports = new PomLinter()
+        .configure("enforcers", "MODULE_ORDER")
+        .threads(2)
+        .lint(pomFiles);
+
+    assertThat(reports).hasSize(6);
+    assertThat(reports.get(new File("src/test/projects/example-project/pom.xml")).hasErrors()).isTrue();
+  }
+
+  @Test
+  void runWithJsonLines() throws Exception {
+    File pomFile = writePom(POM);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    int exitCode = PomLinter.run(
+        new String[]{"--enforcers=DEPENDENCY_ORDER", "--dependenciesOrderBy=groupId", "--format=jsonl", pomFile.getPath()},
+        new PrintStream(out, true, "UTF-8"),
+        new PrintStream(err, true, "UTF-8"));
+
+    assertThat(exitCode).isEqualTo(1);
+    assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).contains("\"rule\":\"DEPENDENCY_ORDER\"");
+  }
+
+  @Test
+  void runWithFix() throws Exception {
+    File pomFile = writePom(POM);
+    PrintStream out = new PrintStream(new ByteArrayOutputStream(), true, "UTF-8");
+
+    int exitCode = PomLinter.run(
+        new String[]{"--enforcers=DEPENDENCY_ORDER", "--dependenciesOrderBy=groupId", "--fix", pomFile.getPath()}, out, out);
+
+    assertThat(exitCode).isZero();
+    String content = new String(Files.readAllBytes(pomFile.toPath()), StandardCharsets.UTF_8);
+    assertThat(content.indexOf("<artifactId>c</artifactId>")).isLessThan(content.indexOf("<artifactId>b</artifactId>"));
+  }
+
+  @Test
+  void runWithUsageError() throws Exception {
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    PrintStream out = new PrintStream(new ByteArrayOutputStream(), true, "UTF-8");
+
+    assertThat(PomLinter.run(new String[0], out, new PrintStream(err, true, "UTF-8"))).isEqualTo(2);
+    assertThat(PomLinter.run(new String[]{"--unknown=x", "pom.xml"}, out, new PrintStream(err, true, "UTF-8"))).isEqualTo(2);
+    assertThat(new String(err.toByteArray(), StandardCharsets.UTF_8)).contains("Unknown parameter: unknown", "Usage");
+  }
+
+  private File writePom(String content) throws Exception {
+    Path pomFile = this.tempDir.resolve("pom.xml");
+    Files.write(pomFile, content.getBytes(StandardCharsets.UTF_8));
+    return pomFile.toFile();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.model.ParsedPom;
+import com.github.ferstl.maven.pomenforcers.model.PomReader;
+import com.google.common.hash.Hashing;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ResultCacheTest {
+
+  private static final String POM = "<project><groupId>a.b.c</groupId><artifactId>a</artifactId></project>";
+
+  @TempDir
+  Path tempDir;
+
+  private MavenProject project;
+  private ParsedPom parsedPom;
+
+  @BeforeEach
+  void before() {
+    Model model = new Model();
+    model.setGroupId("a.b.c");
+    model.setArtifactId("a");
+    model.setVersion("1.0");
+    this.project = new MavenProject(model);
+    this.project.getBuild().setDirectory(this.tempDir.toString());
+    this.parsedPom = read(POM);
+  }
+
+  @Test
+  void putAndContains() {
+    ResultCache resultCache = ResultCache.forProject(this.project);
+    String key = ResultCache.createKey(this.parsedPom, this.project, "config");
+
+    assertThat(resultCache.contains(key)).isFalse();
+    resultCache.put(key);
+    resultCache.put(key);
+
+    assertThat(resultCache.contains(key)).isTrue();
+    assertThat(this.tempDir.resolve(ResultCache.DIRECTORY_NAME).resolve(key)).exists();
+  }
+
+  @Test
+  void keyIsStable() {
+    assertThat(ResultCache.createKey(read(POM), this.project, "config"))
+        .isEqualTo(ResultCache.createKey(this.parsedPom, this.project, "config"));
+  }
+
+  @Test
+  void keyDependsOnPomContent() {
+    ParsedPom changedPom = read(POM.replace("<artifactId>a</artifactId>", "<artifactId>b</artifactId>"));
+
+    assertThat(ResultCache.createKey(changedPom, this.project, "config"))
+        .isNotEqualTo(ResultCache.createKey(this.parsedPom, this.project, "config"));
+  }
+
+  @Test
+  void keyDependsOnConfiguration() {
+    assertThat(ResultCache.createKey(this.parsedPom, this.project, "config2"))
+        .isNotEqualTo(ResultCache.createKey(this.parsedPom, this.project, "config"));
+  }
+
+  @Test
+  void keyDependsOnEffectiveDependencies() {
+    String key = ResultCache.createKey(this.parsedPom, this.project, "config");
+
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("x.y.z");
+    dependency.setArtifactId("inherited");
+    dependency.setVersion("1.0");
+    this.project.getDependencies().add(dependency);
+
+    assertThat(ResultCache.createKey(this.parsedPom, this.project, "config")).isNotEqualTo(key);
+  }
+
+  @Test
+  void configurationFingerprint() {
+    CompoundPedanticEnforcer enforcer = createCompoundEnforcer();
+    String fingerprint = ConfigurationFingerprint.of(enforcer);
+
+    assertThat(ConfigurationFingerprint.of(createCompoundEnforcer())).isEqualTo(fingerprint);
+
+    enforcer.setEnforcers("POM_SECTION_ORDER");
+    assertThat(ConfigurationFingerprint.of(enforcer)).isNotEqualTo(fingerprint);
+  }
+
+  private static CompoundPedanticEnforcer createCompoundEnforcer() {
+    return new CompoundPedanticEnforcer(mock(MavenProject.class), mock(ExpressionEvaluator.class));
+  }
+
+  private static ParsedPom read(String pom) {
+    byte[] content = pom.getBytes(StandardCharsets.UTF_8);
+    return PomReader.read(content, Hashing.sha256().hashBytes(content).toString());
+  }
+}
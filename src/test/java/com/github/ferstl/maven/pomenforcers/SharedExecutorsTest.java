@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.SharedExecutors.BoundedExecutor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedExecutorsTest {
+
+  @Test
+  void executorsAreShared() {
+    assertThat(SharedExecutors.get(3)).isSameAs(SharedExecutors.get(3));
+    assertThat(SharedExecutors.get(3)).isNotSameAs(SharedExecutors.get(4));
+  }
+
+  @Test
+  void invalidNumberOfThreads() {
+    assertThatThrownBy(() -> SharedExecutors.get(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Number of threads must be positive: 0");
+  }
+
+  @Test
+  void boundedExecutorLimitsRunningTasks() throws Exception {
+    ExecutorService delegate = Executors.newCachedThreadPool();
+    BoundedExecutor executor = new BoundedExecutor(delegate, 2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          TimeUnit.MILLISECONDS.sleep(20);
+          running.decrementAndGet();
+          return null;
+        }));
+      }
+      for (Future<?> result : results) {
+        result.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(maxRunning.get()).isBetween(1, 2);
+    assertThat(delegate.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+  }
+}
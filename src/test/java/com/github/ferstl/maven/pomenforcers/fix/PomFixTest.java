@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.fix;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PomFixTest {
+
+  @Test
+  void sortOrder() {
+    int[] order = PomFix.sortOrder(Arrays.asList("c", "a", "b"), Comparator.naturalOrder());
+
+    assertThat(order).containsExactly(1, 2, 0);
+  }
+
+  @Test
+  void sortOrderIsStable() {
+    int[] order = PomFix.sortOrder(Arrays.asList("b2", "a1", "b1", "a2"), Comparator.comparing(s -> s.charAt(0)));
+
+    assertThat(order).containsExactly(1, 3, 0, 2);
+  }
+
+  @Test
+  void reorder() {
+    PomFix fix = PomFix.reorder("/project/dependencies", 0, new int[]{1, 0});
+
+    assertThat(fix.getDepth()).isEqualTo(2);
+    assertThat(fix).hasToString("/project/dependencies[0]: [1, 0]");
+  }
+
+  @Test
+  void invalidOrder() {
+    assertThatThrownBy(() -> PomFix.reorder("/project", 0, new int[]{0, 0}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PomFix.reorder("/project", 0, new int[]{0, 2}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void invalidPath() {
+    assertThatThrownBy(() -> PomFix.reorder("/", 0, new int[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
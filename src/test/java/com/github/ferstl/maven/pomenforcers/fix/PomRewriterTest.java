@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.fix;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PomRewriterTest {
+
+  @Test
+  void reorderPreservesFormatting() {
+    String pom = ""
+        + "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<project>\n"
+        + "  <dependencies>\n"
+        + "    <!-- Second -->\n"
+        + "    <dependency>\n"
+        + "      <artifactId>b</artifactId>\n"
+        + "    </dependency> <!-- b -->\n"
+        + "\n"
+        + "    <dependency><artifactId>a</artifactId></dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>\n";
+    PomRewriter rewriter = rewriter(pom);
+
+    boolean applied = rewriter.apply(PomFix.reorder("/project/dependencies", 0, new int[]{1, 0}));
+
+    assertThat(applied).isTrue();
+    assertThat(rewriter).hasToString(""
+        + "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<project>\n"
+        + "  <dependencies>\n"
+        + "\n"
+        + "    <dependency><artifactId>a</artifactId></dependency>\n"
+        + "    <!-- Second -->\n"
+        + "    <dependency>\n"
+        + "      <artifactId>b</artifactId>\n"
+        + "    </dependency> <!-- b -->\n"
+        + "  </dependencies>\n"
+        + "</project>\n");
+  }
+
+  @Test
+  void reorderInlineElements() {
+    PomRewriter rewriter = rewriter("<project><dependencies><dependency><version>1</version><groupId a=\"x>\">g</groupId><artifactId/></dependency></dependencies></project>");
+
+    boolean applied = rewriter.apply(PomFix.reorder("/project/dependencies/dependency", 0, new int[]{1, 2, 0}));
+
+    assertThat(applied).isTrue();
+    assertThat(rewriter).hasToString("<project><dependencies><dependency><groupId a=\"x>\">g</groupId><artifactId/><version>1</version></dependency></dependencies></project>");
+  }
+
+  @Test
+  void occurrence() {
+    PomRewriter rewriter = rewriter(""
+        + "<project>\n"
+        + "  <modules><module>x</module></modules>\n"
+        + "  <profiles><profile><modules><module>d</module><module>c</module></modules></profile></profiles>\n"
+        + "  <dependencies>\n"
+        + "    <dependency><b/><a/></dependency>\n"
+        + "    <dependency><d/><c/></dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>");
+
+    assertThat(rewriter.apply(PomFix.reorder("/project/dependencies/dependency", 1, new int[]{1, 0}))).isTrue();
+    assertThat(rewriter.toString())
+        .contains("<dependency><b/><a/></dependency>")
+        .contains("<dependency><c/><d/></dependency>")
+        .contains("<module>d</module><module>c</module>");
+  }
+
+  @Test
+  void ignoresMarkupInCommentsAndCdata() {
+    PomRewriter rewriter = rewriter(""
+        + "<!DOCTYPE project [<!ENTITY x \"y\">]>\n"
+        + "<project>\n"
+        + "  <!-- <modules><module>z</module></modules> -->\n"
+        + "  <?pi <modules>?>\n"
+        + "  <description><![CDATA[<modules>]]></description>\n"
+        + "  <modules>\n"
+        + "    <module>b</module>\n"
+        + "    <module>a</module>\n"
+        + "  </modules>\n"
+        + "</project>");
+
+    assertThat(rewriter.apply(PomFix.reorder("/project/modules", 0, new int[]{1, 0}))).isTrue();
+    assertThat(rewriter.toString()).contains("    <module>a</module>\n    <module>b</module>\n  </modules>");
+  }
+
+  @Test
+  void notApplicable() {
+    PomRewriter rewriter = rewriter("<project><modules><module>b</module><module>a</module></modules><build/></project>");
+
+    assertThat(rewriter.apply(PomFix.reorder("/project/modules", 1, new int[]{1, 0}))).isFalse();
+    assertThat(rewriter.apply(PomFix.reorder("/project/modules", 0, new int[]{2, 1, 0}))).isFalse();
+    assertThat(rewriter.apply(PomFix.reorder("/project/build", 0, new int[0]))).isFalse();
+    assertThat(rewriter.apply(PomFix.reorder("/project/dependencies", 0, new int[0]))).isFalse();
+  }
+
+  @Test
+  void keepsEncoding() {
+    String pom = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<project><name>ä</name><artifactId>ö</artifactId></project>";
+    PomRewriter rewriter = new PomRewriter(pom.getBytes(StandardCharsets.ISO_8859_1));
+
+    rewriter.apply(PomFix.reorder("/project", 0, new int[]{1, 0}));
+
+    assertThat(new String(rewriter.getContent(), StandardCharsets.ISO_8859_1))
+        .isEqualTo("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<project><artifactId>ö</artifactId><name>ä</name></project>");
+  }
+
+  @Test
+  void keepsByteOrderMark() {
+    byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    byte[] pom = "<project><b/><a/></project>".getBytes(StandardCharsets.UTF_8);
+    byte[] content = new byte[bom.length + pom.length];
+    System.arraycopy(bom, 0, content, 0, bom.length);
+    System.arraycopy(pom, 0, content, bom.length, pom.length);
+    PomRewriter rewriter = new PomRewriter(content);
+
+    rewriter.apply(PomFix.reorder("/project", 0, new int[]{1, 0}));
+
+    assertThat(rewriter.getContent()).startsWith(bom);
+    assertThat(rewriter).hasToString("<project><a/><b/></project>");
+  }
+
+  private static PomRewriter rewriter(String pom) {
+    return new PomRewriter(pom.getBytes(StandardCharsets.UTF_8));
+  }
+}
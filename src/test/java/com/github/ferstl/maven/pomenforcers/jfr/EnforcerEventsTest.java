@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.jfr;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import com.github.ferstl.maven.pomenforcers.jfr.EnforcerEvents.Span;
+import com.github.ferstl.maven.pomenforcers.report.MetricPhase;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnforcerEventsTest {
+
+  private static final String EVENT_NAME = "com.github.ferstl.maven.pomenforcers.Phase";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void noRecording() {
+    try (Span span = EnforcerEvents.begin(MetricPhase.ENFORCE, "g:a", PedanticEnforcerRule.MODULE_ORDER)) {
+      assertThat(span).isSameAs(Span.NOOP);
+    }
+  }
+
+  @Test
+  void recording() throws Exception {
+    Path recordingFile = this.tempDir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+      recording.start();
+
+      try (Span span = EnforcerEvents.begin(MetricPhase.MATCH, "g:a", PedanticEnforcerRule.DEPENDENCY_ORDER)) {
+        span.setElements(42);
+      }
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+    assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals(EVENT_NAME))
+        .singleElement()
+        .satisfies(event -> {
+          assertThat(event.getString("module")).isEqualTo("g:a");
+          assertThat(event.getString("rule")).isEqualTo("DEPENDENCY_ORDER");
+          assertThat(event.getString("phase")).isEqualTo("MATCH");
+          assertThat(event.getInt("elements")).isEqualTo(42);
+        });
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoordinatePoolTest {
+
+  @Test
+  void intern() {
+    String coordinate = CoordinatePool.intern(new String("com.example"));
+
+    assertThat(CoordinatePool.intern(new String("com.example"))).isSameAs(coordinate);
+  }
+
+  @Test
+  void internNull() {
+    assertThat(CoordinatePool.intern(null)).isNull();
+  }
+
+  @Test
+  void modelsSharePooledCoordinates() {
+    DependencyModel first = createDependency();
+    DependencyModel second = createDependency();
+
+    assertThat(second.getGroupId()).isSameAs(first.getGroupId());
+    assertThat(second.getArtifactId()).isSameAs(first.getArtifactId());
+    assertThat(second.getVersion()).isSameAs(first.getVersion());
+    assertThat(second.getType()).isSameAs(first.getType());
+  }
+
+  private static DependencyModel createDependency() {
+    return new DependencyModel(new String("g"), new String("a"), new String("1.0"), null, null, new String("jar"));
+  }
+}
@@ -22,6 +22,7 @@ import javax.xml.bind.JAXBElement;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
+import com.google.common.collect.ImmutableList;
 import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,4 +39,45 @@ class ModelTest {
     assertThat(projectModel).isNotNull();
   }
 
+  @Test
+  void compactAfterUnmarshal() {
+    File pomFile = new File("src/test/projects/example-project/pom.xml");
+    ProjectModel first = ProjectModelLoader.load(pomFile);
+    ProjectModel second = ProjectModelLoader.load(pomFile);
+
+    DependencyModel dependency = first.getManagedDependencies().get(0);
+    DependencyModel sameDependency = second.getManagedDependencies().get(0);
+    assertThat(dependency).isNotSameAs(sameDependency);
+    assertThat(dependency.getGroupId()).isSameAs(sameDependency.getGroupId());
+    assertThat(dependency.getArtifactId()).isSameAs(sameDependency.getArtifactId());
+    assertThat(dependency.hashCode()).isEqualTo(sameDependency.hashCode());
+    assertThat(first.getManagedPlugins().get(0).getArtifactId()).isSameAs(second.getManagedPlugins().get(0).getArtifactId());
+
+    assertThat(first.getModules()).isInstanceOf(ImmutableList.class);
+    assertThat(first.getManagedDependencies()).isInstanceOf(ImmutableList.class);
+    assertThat(first.getManagedPlugins()).isInstanceOf(ImmutableList.class);
+
+    // junit excludes hamcrest-library, which is also declared as managed dependency
+    DependencyModel junit = first.getManagedDependencies().get(5);
+    DependencyModel hamcrest = first.getManagedDependencies().get(6);
+    assertThat(junit.getExclusions())
+        .isInstanceOf(ImmutableList.class)
+        .hasSize(1);
+    ArtifactModel exclusion = junit.getExclusions().get(0);
+    assertThat(exclusion.getGroupId()).isSameAs(hamcrest.getGroupId());
+    assertThat(exclusion.getArtifactId()).isSameAs(hamcrest.getArtifactId());
+    assertThat(exclusion.getGroupId()).isSameAs(second.getManagedDependencies().get(5).getExclusions().get(0).getGroupId());
+  }
+
+  @Test
+  void boundModelEqualsConstructedModel() {
+    ProjectModel projectModel = ProjectModelLoader.load(new File("src/test/projects/example-project/pom.xml"));
+    DependencyModel dependency = projectModel.getManagedDependencies().get(0);
+    ArtifactModel artifact = new ArtifactModel(dependency.getGroupId(), dependency.getArtifactId());
+
+    assertThat(artifact)
+        .isEqualTo(dependency)
+        .hasSameHashCodeAs(new ArtifactModel(dependency.getGroupId(), dependency.getArtifactId()));
+  }
+
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import javax.xml.bind.JAXB;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.w3c.dom.Document;
+import com.github.ferstl.maven.pomenforcers.util.XmlUtils;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PomReaderTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "src/test/projects/example-project/pom.xml",
+      "src/test/projects/example-project/module1/pom.xml",
+      "src/test/projects/issue-23/pom.xml",
+      "src/test/projects/plugins/pom.xml"})
+  void readEqualsDomAndJaxb(String pomFile) throws Exception {
+    File file = new File(pomFile);
+    Document document = XmlUtils.parseXml(file);
+    PomStructure domStructure = PomStructure.fromDocument(document);
+    ProjectModel jaxbModel = JAXB.unmarshal(file, ProjectModel.class);
+
+    ParsedPom parsedPom = PomReader.read(Files.readAllBytes(Paths.get(pomFile)), "hash");
+    PomStructure structure = parsedPom.getStructure();
+
+    // PluginModel#equals() cannot compare plugin configurations
+    assertThat(parsedPom.getProjectModel()).hasToString(jaxbModel.toString());
+    assertThat(parsedPom.getProjectModel().getManagedPlugins())
+        .extracting(PluginModel::isConfigured)
+        .isEqualTo(jaxbModel.getManagedPlugins().stream().map(PluginModel::isConfigured).collect(toList()));
+    assertThat(structure.getSections()).isEqualTo(domStructure.getSections());
+    assertThat(structure.getManagedDependencyElements()).isEqualTo(domStructure.getManagedDependencyElements());
+    assertThat(structure.getDependencyElements()).isEqualTo(domStructure.getDependencyElements());
+    assertThat(structure.getManagedPluginElements()).isEqualTo(domStructure.getManagedPluginElements());
+    assertThat(structure.getPluginElements()).isEqualTo(domStructure.getPluginElements());
+  }
+
+  @Test
+  void locations() {
+    String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<project>\n"
+        + "  <modelVersion>4.0.0</modelVersion>\n"
+        + "  <modules>\n"
+        + "    <module>a</module>\n"
+        + "    <module>b</module>\n"
+        + "  </modules>\n"
+        + "  <dependencies>\n"
+        + "    <dependency>\n"
+        + "      <groupId>g</groupId>\n"
+        + "      <artifactId>a</artifactId>\n"
+        + "    </dependency>\n"
+        + "    <dependency><groupId>g</groupId><artifactId>b</artifactId></dependency>\n"
+        + "  </dependencies>\n"
+        + "  <build>\n"
+        + "    <plugins>\n"
+        + "      <plugin><artifactId>p</artifactId></plugin>\n"
+        + "    </plugins>\n"
+        + "  </build>\n"
+        + "</project>\n";
+
+    PomStructure structure = PomReader.read(pom.getBytes(StandardCharsets.UTF_8), "hash").getStructure();
+
+    assertThat(structure.getSectionLocation(PomSection.MODEL_VERSION)).isEqualTo(new SourceLocation(3, 3));
+    assertThat(structure.getSectionLocation(1)).isEqualTo(new SourceLocation(4, 3));
+    assertThat(structure.getSectionLocation(PomSection.BUILD)).isEqualTo(new SourceLocation(15, 3));
+    assertThat(structure.getSectionLocation(PomSection.PROFILES)).isEqualTo(SourceLocation.UNKNOWN);
+    assertThat(structure.getModuleLocation(0)).isEqualTo(new SourceLocation(5, 5));
+    assertThat(structure.getModuleLocation(1)).isEqualTo(new SourceLocation(6, 5));
+    assertThat(structure.getModuleLocation(2)).isEqualTo(SourceLocation.UNKNOWN);
+    assertThat(structure.getDependencyLocation(0)).isEqualTo(new SourceLocation(9, 5));
+    assertThat(structure.getDependencyLocation(1)).isEqualTo(new SourceLocation(13, 5));
+    assertThat(structure.getPluginLocation(0)).isEqualTo(new SourceLocation(17, 7));
+    assertThat(structure.getManagedDependencyLocation(0)).isEqualTo(SourceLocation.UNKNOWN);
+  }
+
+  @Test
+  void locationsAfterTagsAndComments() {
+    String pom = "<project><modelVersion>4.0.0</modelVersion><!-- c --><modules><module>a</module>\n"
+        + "\t<module>b</module></modules></project>";
+
+    PomStructure structure = PomReader.read(pom.getBytes(StandardCharsets.UTF_8), "hash").getStructure();
+
+    assertThat(structure.getSectionLocation(0)).isEqualTo(new SourceLocation(1, 10));
+    assertThat(structure.getSectionLocation(1)).isEqualTo(new SourceLocation(1, 54));
+    assertThat(structure.getModuleLocation(0)).isEqualTo(new SourceLocation(1, 63));
+    assertThat(structure.getModuleLocation(1)).isEqualTo(new SourceLocation(2, 2));
+  }
+
+  @Test
+  void noLocationsFromDocument() {
+    Document document = XmlUtils.parseXml(new File("src/test/projects/example-project/pom.xml"));
+
+    assertThat(PomStructure.fromDocument(document).getSectionLocation(0)).isEqualTo(SourceLocation.UNKNOWN);
+  }
+}
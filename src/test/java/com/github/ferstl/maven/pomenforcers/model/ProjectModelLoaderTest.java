@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.bind.JAXB;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectModelLoaderTest {
+
+  private static final File POM_FILE = new File("src/test/projects/example-project/pom.xml");
+
+  @Test
+  void contextIsShared() {
+    assertThat(ProjectModelLoader.getContext()).isSameAs(ProjectModelLoader.getContext());
+  }
+
+  @Test
+  void load() {
+    ProjectModel expected = JAXB.unmarshal(POM_FILE, ProjectModel.class);
+
+    assertThat(ProjectModelLoader.load(POM_FILE)).hasToString(expected.toString());
+    // Second call uses a pooled unmarshaller
+    assertThat(ProjectModelLoader.load(POM_FILE)).hasToString(expected.toString());
+  }
+
+  @Test
+  void loadConcurrently() throws Exception {
+    String expected = JAXB.unmarshal(POM_FILE, ProjectModel.class).toString();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<ProjectModel>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        results.add(executor.submit(() -> ProjectModelLoader.load(POM_FILE)));
+      }
+
+      for (Future<ProjectModel> result : results) {
+        assertThat(result.get()).hasToString(expected);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void loadNonExistingFile() {
+    assertThrows(IllegalStateException.class, () -> ProjectModelLoader.load(new File("does/not/exist.xml")));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.model.functions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.maven.model.Dependency;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import com.google.common.collect.BiMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DependencyMatcherTest {
+
+  private ExpressionEvaluator helper;
+  private DependencyMatcher dependencyMatcher;
+
+  @BeforeEach
+  public void before() {
+    this.helper = mock(ExpressionEvaluator.class);
+    this.dependencyMatcher = new DependencyMatcher(this.helper);
+  }
+
+  @Test
+  public void matchesWithTypeAndClassifier() {
+    DependencyModel supersetDependency = new DependencyModel("a", "b", "1.0", null, "tests", "test-jar");
+
+    assertTrue(this.dependencyMatcher.matches(supersetDependency, new DependencyModel("a", "b", null, null, "tests", "test-jar")));
+    assertFalse(this.dependencyMatcher.matches(supersetDependency, new DependencyModel("a", "b", null, null, null, "test-jar")));
+    assertFalse(this.dependencyMatcher.matches(supersetDependency, new DependencyModel("a", "b", null, null, "tests", null)));
+  }
+
+  @Test
+  public void matchResolvesPropertiesOncePerItem() throws Exception {
+    when(this.helper.evaluate("${groupId}")).thenReturn("a");
+
+    DependencyModel subsetDependency = new DependencyModel("${groupId}", "c", null, null, null, null);
+    BiMap<DependencyModel, DependencyModel> matches = this.dependencyMatcher.match(
+        Arrays.asList(createDependency("a", "b"), createDependency("a", "c"), createDependency("a", "d")),
+        Collections.singletonList(subsetDependency));
+
+    assertEquals(1, matches.size());
+    DependencyModel supersetDependency = matches.inverse().get(subsetDependency);
+    assertEquals("c", supersetDependency.getArtifactId());
+    assertEquals("1.0", supersetDependency.getVersion());
+    verify(this.helper, times(1)).evaluate("${groupId}");
+  }
+
+  @Test
+  public void matchUsesFirstOfEqualSupersetItems() {
+    BiMap<DependencyModel, DependencyModel> matches = this.dependencyMatcher.match(
+        Arrays.asList(createDependency("a", "b", "1.0"), createDependency("a", "b", "2.0")),
+        Collections.singletonList(new DependencyModel("a", "b", null, null, null, null)));
+
+    assertEquals("1.0", matches.keySet().iterator().next().getVersion());
+  }
+
+  @Test
+  public void unmatchedImport() {
+    DependencyModel bom = new DependencyModel("a", "bom", "1.0", "import", null, "pom");
+    BiMap<DependencyModel, DependencyModel> matches = this.dependencyMatcher.match(
+        Collections.singletonList(createDependency("a", "b")),
+        Collections.singletonList(bom));
+
+    assertSame(bom, matches.get(bom));
+  }
+
+  @Test
+  public void unmatchedItem() {
+    assertThrows(IllegalArgumentException.class, () -> this.dependencyMatcher.match(
+        Collections.singletonList(createDependency("a", "b")),
+        Collections.singletonList(new DependencyModel("a", "x", null, null, null, null))));
+  }
+
+  private static Dependency createDependency(String groupId, String artifactId) {
+    return createDependency(groupId, artifactId, "1.0");
+  }
+
+  private static Dependency createDependency(String groupId, String artifactId, String version) {
+    Dependency dependency = new Dependency();
+    dependency.setGroupId(groupId);
+    dependency.setArtifactId(artifactId);
+    dependency.setVersion(version);
+    return dependency;
+  }
+}
@@ -20,6 +20,8 @@ import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.github.ferstl.maven.pomenforcers.model.PluginModel;
+import com.google.common.collect.BiMap;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -73,4 +75,17 @@ public class PluginMatcherTest {
 
     assertTrue(this.pluginMatcher.matches(supersetPlugin, subsetPlugin));
   }
+
+  @Test
+  public void matchWithDefaultGroupId() {
+    Plugin plugin = new Plugin();
+    plugin.setGroupId("org.apache.maven.plugins");
+    plugin.setArtifactId("b");
+    plugin.setVersion("c");
+    PluginModel subsetPlugin = new PluginModel(null, "b", null);
+
+    BiMap<PluginModel, PluginModel> matches = this.pluginMatcher.match(singletonList(plugin), singletonList(subsetPlugin));
+
+    assertEquals("c", matches.inverse().get(subsetPlugin).getVersion());
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.priority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.model.DependencyElement;
+import com.github.ferstl.maven.pomenforcers.model.DependencyModel;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.ARTIFACT_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.GROUP_ID;
+import static com.github.ferstl.maven.pomenforcers.model.DependencyElement.SCOPE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompoundPriorityOrderingTest {
+
+  private static final DependencyModel A_Z = new DependencyModel("a", "z", null, null, null, null);
+  private static final DependencyModel B_X = new DependencyModel("b", "x", null, null, null, null);
+  private static final DependencyModel B_Y = new DependencyModel("b", "y", null, null, null, null);
+
+  @Test
+  void compare() {
+    CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering = CompoundPriorityOrdering.orderBy(GROUP_ID, ARTIFACT_ID);
+
+    assertThat(ordering.sortedCopy(Arrays.asList(B_Y, A_Z, B_X))).containsExactly(A_Z, B_X, B_Y);
+  }
+
+  @Test
+  void setPriorities() {
+    CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering = CompoundPriorityOrdering.orderBy(GROUP_ID, ARTIFACT_ID);
+    List<DependencyModel> dependencies = Arrays.asList(A_Z, B_X, B_Y);
+    assertThat(ordering.isOrdered(dependencies)).isTrue();
+
+    ordering.setPriorities(GROUP_ID, Arrays.asList("b"));
+    ordering.setPriorities(ARTIFACT_ID, Arrays.asList("y"));
+
+    assertThat(ordering.isOrdered(dependencies)).isFalse();
+    assertThat(ordering.sortedCopy(dependencies)).containsExactly(B_Y, B_X, A_Z);
+  }
+
+  @Test
+  void redefineOrderBy() {
+    CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering = CompoundPriorityOrdering.orderBy(GROUP_ID, ARTIFACT_ID);
+
+    ordering.redefineOrderBy(Arrays.asList(ARTIFACT_ID, GROUP_ID));
+
+    assertThat(ordering.sortedCopy(Arrays.asList(A_Z, B_Y, B_X))).containsExactly(B_X, B_Y, A_Z);
+  }
+
+  @Test
+  void sortKeys() {
+    CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering = CompoundPriorityOrdering.orderBy(SCOPE, GROUP_ID, ARTIFACT_ID);
+    ordering.setPriorities(GROUP_ID, Arrays.asList("g.1", "g"));
+    ordering.setPriorities(SCOPE, Arrays.asList("compile", "test"));
+
+    Random random = new Random(42);
+    String[] scopes = {"compile", "test", "runtime", "provided"};
+    List<DependencyModel> dependencies = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      dependencies.add(new DependencyModel("g." + random.nextInt(20), "a" + random.nextInt(20), null, scopes[random.nextInt(4)], null, null));
+    }
+
+    List<DependencyModel> expected = new ArrayList<>(dependencies);
+    expected.sort(ordering::compare);
+    SortKeys<DependencyModel> sortKeys = ordering.sortKeys(dependencies);
+
+    assertThat(sortKeys.size()).isEqualTo(500);
+    assertThat(sortKeys.isOrdered()).isFalse();
+    assertThat(sortKeys.sortedCopy()).isEqualTo(expected);
+    assertThat(ordering.immutableSortedCopy(dependencies)).isEqualTo(expected);
+    assertThat(ordering.sortKeys(expected).isOrdered()).isTrue();
+  }
+
+  @Test
+  void violations() {
+    CompoundPriorityOrdering<DependencyModel, String, DependencyElement> ordering = CompoundPriorityOrdering.orderBy(GROUP_ID, ARTIFACT_ID);
+
+    List<OrderViolation<DependencyModel>> violations = ordering.sortKeys(Arrays.asList(B_X, A_Z, B_Y, B_X)).getViolations();
+
+    assertThat(violations).extracting(OrderViolation::getPosition).containsExactly(1, 3);
+    assertThat(violations.get(0).getPredecessor()).isSameAs(B_X);
+    assertThat(violations.get(0).getElement()).isSameAs(A_Z);
+    assertThat(ordering.sortKeys(Arrays.asList(A_Z, B_X, B_X, B_Y)).getViolations()).isEmpty();
+  }
+}
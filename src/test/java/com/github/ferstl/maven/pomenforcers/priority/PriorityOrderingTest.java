@@ -16,9 +16,12 @@
 package com.github.ferstl.maven.pomenforcers.priority;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
+import com.google.common.base.Equivalence;
 import com.google.common.collect.Lists;
+import static com.github.ferstl.maven.pomenforcers.model.functions.StringStartsWithEquivalence.stringStartsWith;
 import static org.assertj.core.api.Assertions.assertThat;
 
 
@@ -56,5 +59,39 @@ class PriorityOrderingTest {
     assertThat(testComparator.compare("b", "a")).isGreaterThan(0);
   }
 
+  @Test
+  void testCompareWithPrefixes() {
+    List<String> prefixes = Lists.newArrayList("org", "com.example", "org.apache", "com");
+    PriorityOrdering<String, String> testComparator = new PriorityOrdering<>(prefixes, Function.identity(), stringStartsWith());
+
+    // The first matching prefix wins, even if a longer prefix matches as well
+    assertThat(testComparator.compare("org.apache.maven", "com.example.x")).isLessThan(0);
+    assertThat(testComparator.compare("com.example.x", "com.other")).isLessThan(0);
+    assertThat(testComparator.compare("com.other", "net.x")).isLessThan(0);
+    assertThat(testComparator.compare("org.b", "org.a")).isGreaterThan(0);
+    assertThat(testComparator.compare("co", "cx")).isLessThan(0);
+  }
 
+  @Test
+  void testCompareWithOtherEquivalence() {
+    List<String> prioritizedItems = Lists.newArrayList("B", "A");
+    PriorityOrdering<String, String> testComparator =
+        new PriorityOrdering<>(prioritizedItems, Function.identity(), Equivalence.equals().onResultOf(String::toUpperCase));
+
+    assertThat(testComparator.compare("b", "a")).isLessThan(0);
+    assertThat(testComparator.compare("a", "c")).isLessThan(0);
+  }
+
+  @Test
+  void testSortedCopy() {
+    List<String> prefixes = Lists.newArrayList("z", "y.a", "y");
+    PriorityOrdering<String, String> testComparator = new PriorityOrdering<>(prefixes, Function.identity(), stringStartsWith());
+    List<String> items = Lists.newArrayList("b", "y.b", "z.b", "a", "y.a", "z.a", "y.a");
+
+    List<String> expected = Lists.newArrayList(items);
+    expected.sort(testComparator::compare);
+
+    assertThat(testComparator.sortedCopy(items)).isEqualTo(expected).containsExactly("z.a", "z.b", "y.a", "y.a", "y.b", "a", "b");
+    assertThat(testComparator.immutableSortedCopy(items)).isEqualTo(expected);
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportFormatTest {
+
+  private static final Violation VIOLATION = new Violation(PedanticEnforcerRule.MODULE_ORDER, "a.b:c", "/tmp/pom.xml",
+      "/project/modules/module[2]", 12, 5, "Modules are \"not\" in order.\nPlease fix.", Arrays.asList("a", "b"), Arrays.asList("b", "a"));
+
+  @Test
+  void getByName() {
+    assertThat(ReportFormat.getByName("jsonl")).isEqualTo(ReportFormat.JSONL);
+    assertThat(ReportFormat.getByName(" SARIF ")).isEqualTo(ReportFormat.SARIF);
+    assertThat(ReportFormat.getByName("junit")).isEqualTo(ReportFormat.JUNIT);
+    assertThatThrownBy(() -> ReportFormat.getByName("pdf"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unsupported report format: pdf");
+  }
+
+  @Test
+  void jsonLines() throws Exception {
+    String result = write(ReportFormat.JSONL, VIOLATION, VIOLATION);
+
+    String expectedLine = "{\"rule\":\"MODULE_ORDER\",\"module\":\"a.b:c\",\"pomFile\":\"/tmp/pom.xml\","
+        + "\"element\":\"/project/modules/module[2]\",\"line\":12,\"column\":5,"
+        + "\"message\":\"Modules are \\\"not\\\" in order.\\nPlease fix.\","
+        + "\"expected\":[\"a\",\"b\"],\"actual\":[\"b\",\"a\"]}\n";
+    assertThat(result).isEqualTo(expectedLine + expectedLine);
+  }
+
+  @Test
+  void sarif() throws Exception {
+    String result = write(ReportFormat.SARIF, VIOLATION);
+
+    assertThat(result)
+        .startsWith("{\"$schema\":")
+        .contains("\"version\":\"2.1.0\"")
+        .contains("{\"id\":\"MODULE_ORDER\",\"shortDescription\":{\"text\":\"One does not simply declare modules!\"}}")
+        .contains("\"ruleId\":\"MODULE_ORDER\",\"level\":\"error\"")
+        .contains("\"region\":{\"startLine\":12,\"startColumn\":5}")
+        .contains("\"element\":\"/project/modules/module[2]\"")
+        .endsWith("]}]}\n");
+  }
+
+  @Test
+  void sarifWithoutResults() throws Exception {
+    assertThat(write(ReportFormat.SARIF)).endsWith("\"results\":[\n]}]}\n");
+  }
+
+  @Test
+  void junit() throws Exception {
+    String result = write(ReportFormat.JUNIT, VIOLATION);
+
+    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(new InputSource(new StringReader(result)));
+    Element testCase = (Element) document.getElementsByTagName("testcase").item(0);
+    Element failure = (Element) testCase.getElementsByTagName("failure").item(0);
+    assertThat(document.getDocumentElement().getAttribute("name")).isEqualTo("pedantic-pom-enforcers");
+    assertThat(testCase.getAttribute("classname")).isEqualTo("a.b:c");
+    assertThat(testCase.getAttribute("name")).isEqualTo("MODULE_ORDER /project/modules/module[2]");
+    assertThat(testCase.getAttribute("line")).isEqualTo("12");
+    assertThat(failure.getTextContent()).isEqualTo(VIOLATION.getMessage());
+  }
+
+  private static String write(ReportFormat format, Violation... violations) throws Exception {
+    StringWriter out = new StringWriter();
+    try (ViolationWriter writer = format.createWriter(out)) {
+      for (Violation violation : violations) {
+        writer.write(violation);
+      }
+    }
+    return out.toString();
+  }
+}
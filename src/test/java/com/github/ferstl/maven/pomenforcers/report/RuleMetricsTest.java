@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.github.ferstl.maven.pomenforcers.PedanticEnforcerRule;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuleMetricsTest {
+
+  @Test
+  void measure() {
+    RuleMetrics metrics = new RuleMetrics();
+
+    String result = metrics.measure("g:a", PedanticEnforcerRule.MODULE_ORDER, MetricPhase.ENFORCE, () -> "result");
+    metrics.measure("g:a", PedanticEnforcerRule.MODULE_ORDER, MetricPhase.ENFORCE, () -> allocate(1000));
+
+    assertThat(result).isEqualTo("result");
+    assertThat(metrics.isEmpty()).isFalse();
+    assertThat(metrics.toTable().split("\n"))
+        .hasSize(2)
+        .satisfies(lines -> assertThat(lines[0]).startsWith("Module  Rule          Phase    Calls  Wall [ms]"))
+        .satisfies(lines -> assertThat(lines[1]).startsWith("g:a     MODULE_ORDER  ENFORCE      2"));
+  }
+
+  @Test
+  void measureFailingAction() {
+    RuleMetrics metrics = new RuleMetrics();
+
+    try {
+      metrics.measure("g:a", PedanticEnforcerRule.MODULE_ORDER, MetricPhase.PARSE, () -> {
+        throw new IllegalStateException("test");
+      });
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    assertThat(metrics.isEmpty()).isFalse();
+  }
+
+  @Test
+  void measureNested() {
+    RuleMetrics metrics = new RuleMetrics();
+
+    metrics.measure("g:a", PedanticEnforcerRule.MODULE_ORDER, MetricPhase.PARSE,
+        () -> RuleMetrics.measureNested(MetricPhase.BIND, () -> "result"));
+    String result = RuleMetrics.measureNested(MetricPhase.BIND, () -> "outside");
+
+    assertThat(result).isEqualTo("outside");
+    assertThat(metrics.toTable().split("\n"))
+        .hasSize(3)
+        .satisfies(lines -> assertThat(lines[1]).startsWith("g:a     MODULE_ORDER  PARSE      1"))
+        .satisfies(lines -> assertThat(lines[2]).startsWith("g:a     MODULE_ORDER  BIND       1"));
+  }
+
+  @Test
+  void writeTo() throws Exception {
+    RuleMetrics metrics = new RuleMetrics();
+    metrics.measure("g:b", PedanticEnforcerRule.DEPENDENCY_ORDER, MetricPhase.ORDER, () -> null);
+    metrics.measure("g:b", PedanticEnforcerRule.DEPENDENCY_ORDER, MetricPhase.MATCH, () -> null);
+    metrics.measure("g:a", PedanticEnforcerRule.DEPENDENCY_ORDER, MetricPhase.ENFORCE, () -> null);
+
+    StringBuilder sb = new StringBuilder();
+    metrics.writeTo(sb);
+
+    String[] lines = sb.toString().split("\n");
+    assertThat(lines).hasSize(3);
+    assertThat(lines[0]).startsWith("{\"module\":\"g:a\",\"rule\":\"DEPENDENCY_ORDER\",\"phase\":\"ENFORCE\",\"count\":1,\"wallNanos\":");
+    assertThat(lines[1]).contains("\"module\":\"g:b\"", "\"phase\":\"MATCH\"", "\"cpuNanos\":", "\"allocatedBytes\":");
+    assertThat(lines[2]).contains("\"phase\":\"ORDER\"");
+  }
+
+  private static List<Object> allocate(int count) {
+    List<Object> objects = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      objects.add(new Object());
+    }
+    return objects;
+  }
+}
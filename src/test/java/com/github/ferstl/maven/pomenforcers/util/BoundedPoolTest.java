@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPoolTest {
+
+  @Test
+  void reuseReleasedInstance() {
+    BoundedPool<Object> pool = new BoundedPool<>(2, Object::new);
+
+    Object first = pool.borrow();
+    pool.release(first);
+
+    assertThat(pool.borrow()).isSameAs(first);
+    assertThat(pool.size()).isZero();
+  }
+
+  @Test
+  void createInstanceIfPoolIsEmpty() {
+    AtomicInteger created = new AtomicInteger();
+    BoundedPool<Integer> pool = new BoundedPool<>(2, created::incrementAndGet);
+
+    assertThat(pool.borrow()).isEqualTo(1);
+    assertThat(pool.borrow()).isEqualTo(2);
+  }
+
+  @Test
+  void poolIsBounded() {
+    BoundedPool<Object> pool = new BoundedPool<>(2, Object::new);
+
+    pool.release(new Object());
+    pool.release(new Object());
+    pool.release(new Object());
+
+    assertThat(pool.size()).isEqualTo(2);
+  }
+}
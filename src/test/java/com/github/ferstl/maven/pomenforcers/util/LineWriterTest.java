@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineWriterTest {
+
+  @Test
+  void writeLines() throws Exception {
+    List<String> lines = new ArrayList<>();
+    try (LineWriter writer = new LineWriter(lines::add)) {
+      writer.append("a").append("b\nc\r\n").append("\n").append("d");
+      assertThat(lines).containsExactly("ab", "c", "");
+    }
+
+    assertThat(lines).containsExactly("ab", "c", "", "d");
+  }
+
+  @Test
+  void flushEmptyLine() throws Exception {
+    List<String> lines = new ArrayList<>();
+    LineWriter writer = new LineWriter(lines::add);
+
+    writer.append("a\n");
+    writer.flush();
+
+    assertThat(lines).containsExactly("a");
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.io.File;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalExpressionEvaluatorTest {
+
+  private LocalExpressionEvaluator evaluator;
+
+  @BeforeEach
+  void before() {
+    Model parentModel = new Model();
+    parentModel.setGroupId("parent.group");
+    parentModel.setArtifactId("parent");
+    parentModel.setVersion("1.0");
+    parentModel.addProperty("a", "parent-a");
+    parentModel.addProperty("b", "parent-b");
+
+    Parent parent = new Parent();
+    parent.setGroupId("parent.group");
+    parent.setArtifactId("parent");
+    parent.setVersion("1.0");
+
+    Model model = new Model();
+    model.setParent(parent);
+    model.setArtifactId("child");
+    model.addProperty("a", "child-a");
+    model.addProperty("nested", "${a}-${b}");
+    model.addProperty("cycle", "${cycle}");
+
+    this.evaluator = new LocalExpressionEvaluator(asList(model, parentModel), new File("basedir"));
+  }
+
+  @Test
+  void properties() {
+    assertThat(this.evaluator.evaluate("${a}")).isEqualTo("child-a");
+    assertThat(this.evaluator.evaluate("${b}")).isEqualTo("parent-b");
+    assertThat(this.evaluator.evaluate("x-${nested}-x")).isEqualTo("x-child-a-parent-b-x");
+  }
+
+  @Test
+  void projectValues() {
+    assertThat(this.evaluator.evaluate("${project.groupId}:${project.artifactId}:${project.version}"))
+        .isEqualTo("parent.group:child:1.0");
+    assertThat(this.evaluator.evaluate("${project.parent.artifactId}")).isEqualTo("parent");
+  }
+
+  @Test
+  void unknownProperties() {
+    assertThat(this.evaluator.evaluate("${unknown}")).isEqualTo("${unknown}");
+    assertThat(this.evaluator.evaluate("${cycle}")).isEqualTo("${cycle}");
+    assertThat(this.evaluator.evaluate(null)).isNull();
+  }
+
+  @Test
+  void alignToBaseDirectory() {
+    assertThat(this.evaluator.alignToBaseDirectory(new File("x"))).isEqualTo(new File("basedir", "x"));
+  }
+}
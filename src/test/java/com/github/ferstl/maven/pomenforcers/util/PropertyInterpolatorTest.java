@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PropertyInterpolatorTest {
+
+  private ExpressionEvaluator mockHelper;
+  private PropertyInterpolator interpolator;
+
+  @BeforeEach
+  void setup() throws Exception {
+    this.mockHelper = mock(ExpressionEvaluator.class);
+    when(this.mockHelper.evaluate("${x}")).thenReturn("1");
+    when(this.mockHelper.evaluate("${y}")).thenReturn("2");
+    this.interpolator = new PropertyInterpolator(this.mockHelper);
+  }
+
+  @Test
+  void interpolate() {
+    assertThat(this.interpolator.interpolate("${x}")).isEqualTo("1");
+    assertThat(this.interpolator.interpolate("a-${x}-b-${y}")).isEqualTo("a-1-b-2");
+    assertThat(this.interpolator.interpolate("${x}${y}")).isEqualTo("12");
+    assertThat(this.interpolator.interpolate("a-${x")).isEqualTo("a-${x");
+    assertThat(this.interpolator.interpolate("${x}-${y")).isEqualTo("1-${y");
+  }
+
+  @Test
+  void fastPath() {
+    assertThat(this.interpolator.interpolate("foo")).isEqualTo("foo");
+    assertThat(this.interpolator.interpolate("$foo}")).isEqualTo("$foo}");
+    assertThat(this.interpolator.interpolate("")).isEmpty();
+    assertThat(this.interpolator.interpolate(null)).isNull();
+
+    verifyNoInteractions(this.mockHelper);
+    assertThat(this.interpolator.getSkipCount()).isEqualTo(4);
+  }
+
+  @Test
+  void memo() throws Exception {
+    this.interpolator.interpolate("${x}");
+    this.interpolator.interpolate("a-${x}");
+    this.interpolator.interpolate("${x}-${y}");
+
+    verify(this.mockHelper, times(1)).evaluate("${x}");
+    verify(this.mockHelper, times(1)).evaluate("${y}");
+    assertThat(this.interpolator.getHitCount()).isEqualTo(2);
+    assertThat(this.interpolator.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  void boundedMemo() throws Exception {
+    PropertyInterpolator smallInterpolator = new PropertyInterpolator(this.mockHelper, 1);
+
+    smallInterpolator.interpolate("${x}");
+    smallInterpolator.interpolate("${y}");
+    smallInterpolator.interpolate("${x}");
+
+    verify(this.mockHelper, times(2)).evaluate("${x}");
+  }
+
+  @Test
+  void unresolvableProperty() throws Exception {
+    when(this.mockHelper.evaluate("${error}")).thenThrow(new ExpressionEvaluationException("error"));
+    when(this.mockHelper.evaluate("${number}")).thenReturn(42);
+
+    assertThatThrownBy(() -> this.interpolator.interpolate("${error}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unable to resolve property ${error}");
+    assertThatThrownBy(() -> this.interpolator.interpolate("${unknown}"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> this.interpolator.interpolate("${number}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Property ${number} does not evaluate to a String");
+  }
+}
@@ -15,10 +15,13 @@
  */
 package com.github.ferstl.maven.pomenforcers.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.assertj.core.api.AbstractAssert;
 import org.junit.jupiter.api.Test;
 import com.github.ferstl.maven.pomenforcers.model.PomSection;
@@ -28,6 +31,7 @@ import static com.github.ferstl.maven.pomenforcers.util.SideBySideDiffUtilTest.S
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * JUnit tests for {@link SideBySideDiffUtil}.
@@ -264,6 +268,62 @@ class SideBySideDiffUtilTest {
     );
   }
 
+  @Test
+  void movedLines() {
+    String diff = diff(asList("abc", "def", "ghi", "jkl", "xyz"), asList("ghi", "abc", "def", "jkl", "uvw"), "L", "R", 3);
+
+    assertThat(diff).hasContent(
+        "Diff omitted (4 changed lines exceed the limit of 3)",
+        "Moved lines (L -> R):",
+        "  ghi: 3 -> 1",
+        "Removed lines:",
+        "- xyz",
+        "Added lines:",
+        "+ uvw"
+    );
+  }
+
+  @Test
+  void largePermutation() {
+    List<String> required = IntStream.range(0, 3000).mapToObj(i -> String.format("dependency-%04d", i)).collect(Collectors.toList());
+    List<String> actual = new ArrayList<>(required);
+    Collections.shuffle(actual, new Random(42));
+
+    String diff = diff(actual, required, "", "");
+    String sideBySideDiff = diff(actual, required, "", "", Integer.MAX_VALUE);
+
+    assertEquals("Diff omitted", diff.substring(0, 12));
+    assertEquals(actual, side(sideBySideDiff, true));
+    assertEquals(required, side(sideBySideDiff, false));
+  }
+
+  @Test
+  void movedLinesAreBounded() {
+    List<String> required = IntStream.range(0, 3000).mapToObj(i -> String.format("dependency-%04d", i)).collect(Collectors.toList());
+    List<String> actual = new ArrayList<>(required);
+    Collections.reverse(actual);
+
+    String diff = diff(actual, required, "", "", 10);
+    String[] lines = diff.split("\\n");
+
+    assertEquals("Moved lines:", lines[1]);
+    // Header, moved lines header, 100 moved lines and the number of omitted lines
+    assertEquals(103, lines.length);
+    assertTrue(lines[102].matches("  \\.\\.\\. \\d+ more"), lines[102]);
+  }
+
+  private static List<String> side(String diff, boolean left) {
+    List<String> lines = new ArrayList<>();
+    for (String line : diff.split("\\n")) {
+      int separator = line.indexOf(" |");
+      String content = left ? line.substring(0, separator).trim() : line.substring(separator + 2).trim();
+      if (!content.isEmpty()) {
+        lines.add(content.startsWith("+ ") || content.startsWith("- ") ? content.substring(2) : content);
+      }
+    }
+    return lines;
+  }
+
   static class SideBySideDiffAssert extends AbstractAssert<SideBySideDiffAssert, String> {
 
     SideBySideDiffAssert(String expectedContent) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2012 - 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.maven.pomenforcers.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class XmlUtilsTest {
+
+  private static final File POM_FILE = new File("src/test/projects/example-project/pom.xml");
+
+  @Test
+  void parseXmlReusesDocumentBuilder() {
+    Document first = XmlUtils.parseXml("<a><b/></a>".getBytes(StandardCharsets.UTF_8));
+    Document second = XmlUtils.parseXml("<c/>".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(first.getDocumentElement().getNodeName()).isEqualTo("a");
+    assertThat(first.getDocumentElement().getChildNodes().getLength()).isEqualTo(1);
+    assertThat(second.getDocumentElement().getNodeName()).isEqualTo("c");
+  }
+
+  @Test
+  void evaluateXPathAsNodeList() {
+    Document document = XmlUtils.parseXml(POM_FILE);
+
+    assertThat(XmlUtils.evaluateXPathAsNodeList("/project/modules/module", document).getLength()).isEqualTo(5);
+    // Evaluated with the registered expression
+    assertThat(XmlUtils.evaluateXPathAsNodeList("/project/modules/module", document).getLength()).isEqualTo(5);
+  }
+
+  @Test
+  void compiledXPathInOtherThreads() throws Exception {
+    CompiledXPath xPath = XmlUtils.compileXPath("/project/modules/module");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> xPath.evaluateAsNodeList(XmlUtils.parseXml(POM_FILE)).getLength()));
+      }
+
+      for (Future<Integer> result : results) {
+        assertThat(result.get()).isEqualTo(5);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void compileInvalidXPath() {
+    assertThrows(IllegalArgumentException.class, () -> XmlUtils.compileXPath("/project/["));
+  }
+}